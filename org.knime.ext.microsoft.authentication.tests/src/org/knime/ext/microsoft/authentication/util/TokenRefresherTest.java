@@ -0,0 +1,277 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-19 (jannik.loescher): created
+ */
+package org.knime.ext.microsoft.authentication.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.microsoft.aad.msal4j.IAuthenticationResult;
+
+/**
+ * Tests for {@link TokenRefresher}.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+final class TokenRefresherTest {
+
+    private static final int THREADS = 8;
+
+    private final AtomicInteger m_acquisitions = new AtomicInteger();
+
+    /**
+     * Creates an authentication result with the given access token that expires
+     * after the given duration.
+     */
+    private static IAuthenticationResult result(final String token, final Duration expiresIn) {
+        final var expiry = Date.from(Instant.now().plus(expiresIn));
+        return (IAuthenticationResult) Proxy.newProxyInstance(TokenRefresherTest.class.getClassLoader(),
+                new Class<?>[] { IAuthenticationResult.class }, (proxy, method, args) -> switch (method.getName()) {
+                    case "accessToken", "toString" -> token;
+                    case "expiresOnDate" -> expiry;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+
+    /**
+     * Scheduler that only records the scheduled tasks, which are run by the test.
+     */
+    private static final class ManualScheduler extends ScheduledThreadPoolExecutor {
+
+        private final List<Runnable> m_tasks = new ArrayList<>();
+
+        private final List<Long> m_delays = new ArrayList<>();
+
+        ManualScheduler() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+            m_tasks.add(command);
+            m_delays.add(unit.toMillis(delay));
+            return null;
+        }
+
+        /** Runs the task that has been scheduled last. */
+        void runLast() {
+            m_tasks.get(m_tasks.size() - 1).run();
+        }
+    }
+
+    private static IAuthenticationResult valid(final String token) {
+        return result(token, Duration.ofHours(1));
+    }
+
+    private static IAuthenticationResult expired(final String token) {
+        return result(token, Duration.ofSeconds(-1));
+    }
+
+    @Test
+    void testValidTokenIsNotRefreshed() {
+        final var initial = valid("initial");
+        final var refresher = new TokenRefresher(() -> {
+            m_acquisitions.incrementAndGet();
+            return valid("new");
+        }, initial);
+        assertSame(initial, refresher.get());
+        assertSame(initial, refresher.get());
+        assertEquals(0, m_acquisitions.get());
+    }
+
+    @Test
+    void testTokenIsAcquiredWithoutInitialResult() {
+        final var refresher = new TokenRefresher(() -> {
+            m_acquisitions.incrementAndGet();
+            return valid("new");
+        }, null);
+        assertEquals("new", refresher.get().accessToken());
+        assertEquals("new", refresher.get().accessToken());
+        assertEquals(1, m_acquisitions.get());
+    }
+
+    @Test
+    void testConcurrentRefreshesAreJoined() throws InterruptedException, ExecutionException, TimeoutException {
+        final var release = new CountDownLatch(1);
+        final var refreshed = valid("refreshed");
+        final var refresher = new TokenRefresher(() -> {
+            m_acquisitions.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            return refreshed;
+        }, expired("expired"));
+
+        final var threads = new ArrayList<Thread>();
+        final var executor = Executors.newFixedThreadPool(THREADS, r -> {
+            final var thread = new Thread(r);
+            thread.setDaemon(true);
+            threads.add(thread);
+            return thread;
+        });
+        try {
+            final var results = new ArrayList<Future<IAuthenticationResult>>();
+            for (var i = 0; i < THREADS; i++) {
+                results.add(executor.submit(refresher::get));
+            }
+            // wait until all threads either acquire the token or join the refresh
+            final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (threads.size() < THREADS
+                    || !threads.stream().allMatch(t -> t.getState() == Thread.State.WAITING)) {
+                assertTrue(System.nanoTime() < deadline, "The threads did not wait for the refresh.");
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            for (final var result : results) {
+                assertSame(refreshed, result.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, m_acquisitions.get());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFailedRefreshIsReportedAndRetried() {
+        final var fail = new AtomicInteger(1);
+        final var refresher = new TokenRefresher(() -> {
+            m_acquisitions.incrementAndGet();
+            if (fail.getAndDecrement() > 0) {
+                throw new IOException("invalid_grant");
+            }
+            return valid("new");
+        }, expired("expired"));
+
+        final var ex = assertThrows(UncheckedIOException.class, refresher::get);
+        assertEquals("invalid_grant", ex.getCause().getMessage());
+        // the failed refresh is not in flight anymore
+        assertEquals("new", refresher.get().accessToken());
+        assertEquals(2, m_acquisitions.get());
+    }
+
+    @Test
+    void testTokenIsRefreshedBeforeExpiry() {
+        final var scheduler = new ManualScheduler();
+        final var initial = result("initial", Duration.ofMinutes(10));
+        final var refresher = new TokenRefresher(() -> {
+            m_acquisitions.incrementAndGet();
+            return valid("new" + m_acquisitions.get());
+        }, initial, Duration.ofMinutes(2), scheduler);
+
+        // the refresh is scheduled the margin before the expiry
+        assertEquals(1, scheduler.m_tasks.size());
+        final long delay = scheduler.m_delays.get(0);
+        assertTrue(delay > TimeUnit.MINUTES.toMillis(7) && delay <= TimeUnit.MINUTES.toMillis(8),
+                "Unexpected delay " + delay);
+
+        // the initial token has been handed out by the caller, so it is renewed
+        scheduler.runLast();
+        assertEquals(1, m_acquisitions.get());
+        assertEquals("new1", refresher.get().accessToken());
+        assertEquals(1, m_acquisitions.get());
+
+        // the renewed token has been handed out, so it is renewed as well
+        assertEquals(2, scheduler.m_tasks.size());
+        scheduler.runLast();
+        assertEquals(2, m_acquisitions.get());
+    }
+
+    @Test
+    void testUnusedTokenIsNotRefreshedAhead() {
+        final var scheduler = new ManualScheduler();
+        new TokenRefresher(() -> {
+            m_acquisitions.incrementAndGet();
+            return valid("new");
+        }, valid("initial"), Duration.ofMinutes(5), scheduler);
+
+        scheduler.runLast();
+        assertEquals(1, m_acquisitions.get());
+        // nobody picked up the renewed token
+        scheduler.runLast();
+        assertEquals(1, m_acquisitions.get());
+    }
+
+    @Test
+    void testTokenAboutToExpireIsRefreshed() {
+        final var refresher = new TokenRefresher(() -> {
+            m_acquisitions.incrementAndGet();
+            return valid("new");
+        }, result("almost expired", Duration.ofSeconds(10)));
+        assertEquals("new", refresher.get().accessToken());
+        assertEquals(1, m_acquisitions.get());
+    }
+}
@@ -50,28 +50,54 @@ package org.knime.ext.microsoft.authentication.node;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.node.workflow.NodeIDSuffix;
+import org.knime.core.node.workflow.VariableType.LongType;
+import org.knime.core.util.ThreadUtils;
 import org.knime.core.webui.node.impl.WebUINodeConfiguration;
 import org.knime.credentials.base.Credential;
 import org.knime.credentials.base.CredentialPortObjectSpec;
 import org.knime.credentials.base.CredentialRef;
 import org.knime.credentials.base.node.AuthenticatorNodeModel;
+import org.knime.credentials.base.oauth.api.AccessTokenWithScopesCredential;
 import org.knime.credentials.base.oauth.api.JWTCredential;
 import org.knime.ext.microsoft.authentication.credential.AzureStorageSasUrlCredential;
 import org.knime.ext.microsoft.authentication.credential.AzureStorageSharedKeyCredential;
 import org.knime.ext.microsoft.authentication.node.MicrosoftAuthenticatorSettings.AuthenticationType;
+import org.knime.ext.microsoft.authentication.node.MicrosoftAuthenticatorSettings.TokenCachePersistence;
 import org.knime.ext.microsoft.authentication.node.MicrosoftAuthenticatorSettings.UserAgentSelection;
+import org.knime.ext.microsoft.authentication.scopes.ScopeResourceUtil;
 import org.knime.ext.microsoft.authentication.util.AccessTokenWithScopesCredentialFactory;
+import org.knime.ext.microsoft.authentication.util.FileTokenCacheStore;
 import org.knime.ext.microsoft.authentication.util.JWTCredentialFactory;
 import org.knime.ext.microsoft.authentication.util.MSALUtil;
+import org.knime.ext.microsoft.authentication.util.PersistentTokenCacheAspect;
+import org.knime.ext.microsoft.authentication.util.TokenMetrics;
 
 import com.microsoft.aad.msal4j.ClientCredentialFactory;
 import com.microsoft.aad.msal4j.ClientCredentialParameters;
+import com.microsoft.aad.msal4j.IAuthenticationResult;
+import com.microsoft.aad.msal4j.MsalServiceException;
+import com.microsoft.aad.msal4j.SilentParameters;
 import com.microsoft.aad.msal4j.UserNamePasswordParameters;
 
 /**
@@ -82,8 +108,16 @@ import com.microsoft.aad.msal4j.UserNamePasswordParameters;
  */
 @SuppressWarnings("restriction")
 public class MicrosoftAuthenticatorNodeModel extends AuthenticatorNodeModel<MicrosoftAuthenticatorSettings> {
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(MicrosoftAuthenticatorNodeModel.class);
+
     private static final String LOGIN_FIRST_ERROR = "Please use the configuration dialog to log in first.";
 
+    private static final String INVALID_GRANT_ERROR = "invalid_grant";
+
+    private static final int MAX_PREFETCH_THREADS = 8;
+
+    private static final AtomicInteger PREFETCH_THREAD_COUNTER = new AtomicInteger();
+
     /**
      * This references a {@link JWTCredential} that was acquired interactively in
      * the node dialog. It is disposed when the workflow is closed, or when the
@@ -92,6 +126,16 @@ public class MicrosoftAuthenticatorNodeModel extends AuthenticatorNodeModel<Micr
      */
     private CredentialRef m_interactiveCredentialRef;
 
+    /**
+     * The key of the interactive login whose token cache may be persisted in a
+     * file, {@code null} if none. Used to delete the file once the login is
+     * replaced or the token cache is no longer persisted.
+     */
+    private UUID m_persistedTokenCacheRef;
+
+    /** The stores of the token caches persisted by this node instance by their key. */
+    private final Map<UUID, FileTokenCacheStore> m_tokenCacheStores = new ConcurrentHashMap<>();
+
     /**
      * @param configuration
      *            The node configuration.
@@ -111,7 +155,7 @@ public class MicrosoftAuthenticatorNodeModel extends AuthenticatorNodeModel<Micr
                     .map(CredentialRef::new)//
                     .orElseThrow(() -> new InvalidSettingsException(LOGIN_FIRST_ERROR));
 
-            if (!m_interactiveCredentialRef.isPresent()) {
+            if (!m_interactiveCredentialRef.isPresent() && !hasPersistedTokenCache(settings)) {
                 throw new InvalidSettingsException(LOGIN_FIRST_ERROR);
             }
         } else {
@@ -139,9 +183,9 @@ public class MicrosoftAuthenticatorNodeModel extends AuthenticatorNodeModel<Micr
     protected Credential createCredential(final PortObject[] inObjects, final ExecutionContext exec,
             final MicrosoftAuthenticatorSettings settings) throws Exception {
 
-        return switch (settings.m_authenticationType) {
-            case INTERACTIVE -> m_interactiveCredentialRef.getCredential(JWTCredential.class)//
-                    .orElseThrow(() -> new InvalidSettingsException(LOGIN_FIRST_ERROR));
+        deleteUnusedTokenCache(settings);
+        final var credential = switch (settings.m_authenticationType) {
+            case INTERACTIVE -> getInteractiveCredential(settings);
             case CLIENT_SECRET -> fetchCredentialFromClientSecret(settings);
             case USERNAME_PASSWORD -> fetchCredentialFromUsernamePassword(settings);
             case AZURE_STORAGE_SHARED_KEY -> createAzureSharedKeyCredential(settings);
@@ -149,6 +193,198 @@ public class MicrosoftAuthenticatorNodeModel extends AuthenticatorNodeModel<Micr
             default -> throw new InvalidSettingsException(
                     "Unknown authentication mode: " + settings.m_authenticationType);
         };
+
+        if (credential instanceof AccessTokenWithScopesCredential scopesCredential) {
+            prefetchTokens(scopesCredential, settings.getPrefetchScopes());
+        }
+        if (settings.m_outputTokenMetrics) {
+            pushTokenMetrics();
+        }
+        return credential;
+    }
+
+    private void pushTokenMetrics() {
+        final var metrics = TokenMetrics.getInstance();
+        pushFlowVariable("msal_token_cache_hits", LongType.INSTANCE, metrics.getCacheHits());
+        pushFlowVariable("msal_token_network_acquisitions", LongType.INSTANCE, metrics.getNetworkAcquisitions());
+        pushFlowVariable("msal_token_failures", LongType.INSTANCE, metrics.getFailures());
+        pushFlowVariable("msal_token_refreshes", LongType.INSTANCE, metrics.getRefreshes());
+        pushFlowVariable("msal_token_in_flight_refresh_waits", LongType.INSTANCE,
+                metrics.getInFlightRefreshWaits());
+        pushFlowVariableDouble("msal_token_mean_network_latency_ms", metrics.getMeanNetworkLatencyMillis());
+    }
+
+    /**
+     * Fetches the access tokens for the given scopes concurrently, one request per
+     * resource, so that downstream nodes find them in the token cache of the
+     * credential.
+     */
+    private void prefetchTokens(final AccessTokenWithScopesCredential credential, final Set<String> scopes)
+            throws InterruptedException {
+
+        final var scopesByResource = ScopeResourceUtil.groupScopesByResource(scopes);
+        if (scopesByResource.isEmpty()) {
+            return;
+        }
+
+        final var executor = Executors.newFixedThreadPool(Math.min(scopesByResource.size(), MAX_PREFETCH_THREADS),
+                r -> {
+                    final var thread = new Thread(r,
+                            "KNIME-Microsoft-Token-Prefetch-" + PREFETCH_THREAD_COUNTER.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            final var futures = new LinkedHashMap<String, Future<?>>();
+            for (final var entry : scopesByResource.entrySet()) {
+                futures.put(entry.getKey(), executor.submit(ThreadUtils.callableWithContext(
+                        () -> credential.getAccessTokenWithScopes(entry.getValue()).getAccessToken())));
+            }
+
+            final var failed = new ArrayList<String>();
+            for (final var entry : futures.entrySet()) {
+                try {
+                    entry.getValue().get();
+                } catch (ExecutionException e) { // NOSONAR the cause is logged
+                    LOGGER.debug("Could not prefetch access token for " + entry.getKey(), e.getCause());
+                    failed.add(entry.getKey());
+                }
+            }
+            if (!failed.isEmpty()) {
+                setWarningMessage("Could not prefetch access tokens for " + String.join(", ", failed));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Credential getInteractiveCredential(final MicrosoftAuthenticatorSettings settings) throws IOException,
+            InvalidSettingsException {
+
+        final var credential = m_interactiveCredentialRef.getCredential(JWTCredential.class);
+        if (credential.isPresent()) {
+            return credential.get();
+        } else if (hasPersistedTokenCache(settings)) {
+            return restoreInteractiveCredential(settings);
+        } else {
+            throw new InvalidSettingsException(LOGIN_FIRST_ERROR);
+        }
+    }
+
+    /**
+     * Deletes the persisted token cache of the previous interactive login if it
+     * was replaced by a new login, and the one of the current login if its token
+     * cache is no longer persisted. This is done on execution, not on
+     * configuration, and only affects the token caches of this node instance.
+     */
+    private void deleteUnusedTokenCache(final MicrosoftAuthenticatorSettings settings) {
+        final var persisted = settings.m_authenticationType == AuthenticationType.INTERACTIVE
+                && settings.m_tokenCachePersistence == TokenCachePersistence.FILE;
+        final var current = persisted ? settings.m_loginCredentialRef : null;
+        if (m_persistedTokenCacheRef != null && !m_persistedTokenCacheRef.equals(current)) {
+            deleteTokenCache(m_persistedTokenCacheRef);
+        }
+        if (!persisted && settings.m_loginCredentialRef != null) {
+            deleteTokenCache(settings.m_loginCredentialRef);
+        }
+        m_persistedTokenCacheRef = current;
+    }
+
+    private void deleteTokenCache(final UUID credentialRef) {
+        try {
+            getTokenCacheStore(credentialRef).delete();
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete the persisted token cache: " + e.getMessage(), e);
+        }
+    }
+
+    private boolean hasPersistedTokenCache(final MicrosoftAuthenticatorSettings settings) {
+        return settings.m_tokenCachePersistence == TokenCachePersistence.FILE
+                && settings.m_loginCredentialRef != null
+                && getTokenCacheStore(settings.m_loginCredentialRef).exists();
+    }
+
+    private FileTokenCacheStore getTokenCacheStore(final UUID credentialRef) {
+        return m_tokenCacheStores.computeIfAbsent(credentialRef,
+                k -> new FileTokenCacheStore(k, getNodeInstanceId(NodeContext.getContext())));
+    }
+
+    /**
+     * Returns the store of the token cache with the given key of the node in the
+     * current {@link NodeContext}, e.g. the node whose dialog is used to log in.
+     *
+     * @param credentialRef
+     *            the key of the token cache
+     * @return the store of the token cache
+     */
+    static FileTokenCacheStore getTokenCacheStoreOfCurrentNode(final UUID credentialRef) {
+        final var context = NodeContext.getContext();
+        if (context != null && context.getNodeContainer() instanceof NativeNodeContainer nnc
+                && nnc.getNodeModel() instanceof MicrosoftAuthenticatorNodeModel model) {
+            return model.getTokenCacheStore(credentialRef);
+        }
+        return new FileTokenCacheStore(credentialRef, getNodeInstanceId(context));
+    }
+
+    /**
+     * Identifies the node by the location of its workflow and its ID within the
+     * workflow, both of which are kept when the workflow is opened again.
+     */
+    private static String getNodeInstanceId(final NodeContext context) {
+        final NodeContainer nc = context != null ? context.getNodeContainer() : null;
+        if (nc == null) {
+            return null;
+        }
+        final var project = nc.getParent().getProjectWFM();
+        final var workflowContext = project.getContextV2();
+        final var location = workflowContext != null
+                ? workflowContext.getExecutorInfo().getLocalWorkflowPath().toString()
+                : project.getName();
+        return location + "#" + NodeIDSuffix.create(project.getID(), nc.getID());
+    }
+
+    /**
+     * Restores the credential of a previous interactive login from the persisted
+     * token cache, e.g. after the executor has been restarted.
+     */
+    private Credential restoreInteractiveCredential(final MicrosoftAuthenticatorSettings settings)
+            throws IOException {
+
+        final var httpUserAgent = settings.m_userAgentSelection == UserAgentSelection.CUSTOM
+                ? settings.m_customUserAgent
+                : null;
+        final var store = getTokenCacheStore(settings.m_loginCredentialRef);
+        final var tokenCacheAspect = new PersistentTokenCacheAspect(store);
+        final var app = MSALUtil.createClientApp(settings.getClientId(), settings.getAuthorizationEndpointURL(),
+                httpUserAgent, tokenCacheAspect);
+        final var scopeList = settings.getScopes();
+
+        final IAuthenticationResult authResult;
+        try {
+            authResult = MSALUtil.doLogin(() -> {
+                final var accounts = app.getAccounts().get();
+                if (accounts.isEmpty()) {
+                    store.delete();
+                    throw new IOException(LOGIN_FIRST_ERROR);
+                }
+                return app.acquireTokenSilently(
+                        SilentParameters.builder(scopeList.scopes(), accounts.iterator().next()).build());
+            });
+        } catch (IOException e) {
+            if (e.getCause() instanceof MsalServiceException msalEx
+                    && INVALID_GRANT_ERROR.equals(msalEx.errorCode())) {
+                // the refresh token expired or was revoked, it will never work again
+                store.delete();
+                throw new IOException("The persisted login is no longer valid. " + LOGIN_FIRST_ERROR, e);
+            }
+            throw e;
+        }
+
+        if (scopeList.isMultiResource()) {
+            return AccessTokenWithScopesCredentialFactory.create(app);
+        } else {
+            return JWTCredentialFactory.create(authResult, app);
+        }
     }
 
     private static Credential fetchCredentialFromUsernamePassword(final MicrosoftAuthenticatorSettings settings)
@@ -161,7 +397,8 @@ public class MicrosoftAuthenticatorNodeModel extends AuthenticatorNodeModel<Micr
 
         final var clientId = settings.getClientId();
         final var authEndpointURL = settings.getAuthorizationEndpointURL();
-        final var app = MSALUtil.createClientApp(clientId, authEndpointURL, httpUserAgent);
+        final var app = MSALUtil.getSharedClientApp(clientId, authEndpointURL, usernamePassword.getUsername(),
+                usernamePassword.getPassword(), httpUserAgent);
         final var scopeList = settings.getScopes();
         final var params = UserNamePasswordParameters
                 .builder(scopeList.scopes(), //
@@ -169,7 +406,17 @@ public class MicrosoftAuthenticatorNodeModel extends AuthenticatorNodeModel<Micr
                         usernamePassword.getPassword().toCharArray())
                 .build();
 
-        final var authResult = MSALUtil.doLogin(() -> app.acquireToken(params));
+        final var authResult = MSALUtil.doLogin(() -> {
+            // the app is shared with previous executions, so try its token cache first
+            final var account = app.getAccounts().get().stream()//
+                    .filter(a -> a.username().equalsIgnoreCase(usernamePassword.getUsername()))//
+                    .findFirst();
+            if (account.isPresent()) {
+                return app.acquireTokenSilently(SilentParameters.builder(scopeList.scopes(), account.get()).build())//
+                        .exceptionallyCompose(ex -> app.acquireToken(params));
+            }
+            return app.acquireToken(params);
+        });
 
         if (scopeList.isMultiResource()) {
             return AccessTokenWithScopesCredentialFactory.create(app);
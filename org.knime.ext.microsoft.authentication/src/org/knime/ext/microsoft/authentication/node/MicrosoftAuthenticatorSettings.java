@@ -51,8 +51,12 @@ package org.knime.ext.microsoft.authentication.node;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.knime.core.node.InvalidSettingsException;
@@ -71,10 +75,13 @@ import org.knime.ext.microsoft.authentication.scopes.ScopeResourceUtil.ScopeList
 import org.knime.ext.microsoft.authentication.util.AccessTokenWithScopesCredentialFactory;
 import org.knime.ext.microsoft.authentication.util.JWTCredentialFactory;
 import org.knime.ext.microsoft.authentication.util.MSALUtil;
+import org.knime.ext.microsoft.authentication.util.PersistentTokenCacheAspect;
 import org.knime.node.parameters.Advanced;
 import org.knime.node.parameters.NodeParameters;
 import org.knime.node.parameters.NodeParametersInput;
 import org.knime.node.parameters.Widget;
+import org.knime.node.parameters.array.ArrayWidget;
+import org.knime.node.parameters.array.ArrayWidget.ElementLayout;
 import org.knime.node.parameters.layout.After;
 import org.knime.node.parameters.layout.Layout;
 import org.knime.node.parameters.layout.Section;
@@ -185,6 +192,20 @@ public class MicrosoftAuthenticatorSettings implements NodeParameters {
     interface AuthenticationSection {
     }
 
+    @Section(title = "Token prefetch")
+    @Advanced
+    @After(AuthenticationSection.class)
+    @Effect(predicate = AuthenticationType.IsOAuth2.class, type = EffectType.SHOW)
+    interface TokenPrefetchSection {
+    }
+
+    @Section(title = "Diagnostics")
+    @Advanced
+    @After(TokenPrefetchSection.class)
+    @Effect(predicate = AuthenticationType.IsOAuth2.class, type = EffectType.SHOW)
+    interface DiagnosticsSection {
+    }
+
     @Widget(title = "Authentication type", //
             description = """
                     Authentication type to use. The following types are supported:
@@ -388,6 +409,58 @@ public class MicrosoftAuthenticatorSettings implements NodeParameters {
     @Migrate(loadDefaultIfAbsent = true) // added with AP 5.2.2
     String m_customUserAgent = "";
 
+    @Widget(title = "Prefetch access tokens", //
+            description = """
+                    If no scopes are selected, the resulting credential fetches an access token for each
+                    resource when a downstream node first requests it. If this option is enabled, the access
+                    tokens for the scopes below are instead fetched concurrently (one request per resource)
+                    when this node is executed, so that downstream nodes start with valid tokens. Failures
+                    are reported as a warning. The option has no effect if scopes are selected.
+                    """)
+    @Layout(TokenPrefetchSection.class)
+    @ValueReference(PrefetchTokensRef.class)
+    @Migrate(loadDefaultIfAbsent = true)
+    boolean m_prefetchTokens;
+
+    interface PrefetchTokensRef extends ParameterReference<Boolean> {
+    }
+
+    static final class IsPrefetchTokens implements EffectPredicateProvider {
+        @Override
+        public EffectPredicate init(final PredicateInitializer i) {
+            return i.getBoolean(PrefetchTokensRef.class).isTrue();
+        }
+    }
+
+    @Widget(title = "Scopes to prefetch", //
+            description = """
+                    The scopes to fetch access tokens for. Enter them as the downstream nodes request them,
+                    e.g. <i>https://graph.microsoft.com/.default</i> for the SharePoint and Microsoft Graph nodes
+                    or <i>https://storage.azure.com/.default</i> for the Azure storage nodes.
+                    """)
+    @ArrayWidget(elementLayout = ElementLayout.HORIZONTAL_SINGLE_LINE, addButtonText = "Add scope")
+    @Layout(TokenPrefetchSection.class)
+    @Effect(predicate = IsPrefetchTokens.class, type = EffectType.SHOW)
+    @Migrate(loadDefaultIfAbsent = true)
+    ScopesSettings.CustomScope[] m_prefetchScopes = new ScopesSettings.CustomScope[0];
+
+    @Widget(title = "Output token metrics as flow variables", //
+            description = """
+                    If enabled, the node outputs metrics about the token acquisitions of all Microsoft
+                    Authenticator nodes in this KNIME instance as flow variables: the number of tokens served
+                    from the token cache (<i>msal_token_cache_hits</i>), acquired from the identity platform
+                    (<i>msal_token_network_acquisitions</i>) and failed acquisitions
+                    (<i>msal_token_failures</i>), the number of token refreshes (<i>msal_token_refreshes</i>)
+                    and of waits on refreshes that were already in flight
+                    (<i>msal_token_in_flight_refresh_waits</i>), as well as the mean latency of token
+                    acquisitions from the identity platform (<i>msal_token_mean_network_latency_ms</i>).
+                    The same metrics, including a latency histogram and failures by error code, are available
+                    through JMX.
+                    """)
+    @Layout(DiagnosticsSection.class)
+    @Migrate(loadDefaultIfAbsent = true)
+    boolean m_outputTokenMetrics;
+
     @Widget(title = "Which client/app to use", //
             description = """
                     Whether to use the KNIME default app, or enter a custom one. The
@@ -456,6 +529,26 @@ public class MicrosoftAuthenticatorSettings implements NodeParameters {
     @Effect(predicate = ShowRedirectUrl.class, type = EffectType.SHOW)
     String m_redirectUrl;
 
+    @Widget(title = "Token cache", //
+            description = """
+                    Where to keep the tokens of the interactive login. <i>Memory</i> keeps them only as long as
+                    KNIME is running, so you need to log in again after a restart. <i>Encrypted file</i> additionally
+                    stores them encrypted in the KNIME home directory of the current user, so that the node can
+                    silently reuse the refresh token after a restart. The setting is applied on the next login.
+                    """)
+    @ValueSwitchWidget
+    @Layout(AuthenticationSection.class)
+    @Migrate(loadDefaultIfAbsent = true)
+    TokenCachePersistence m_tokenCachePersistence = TokenCachePersistence.MEMORY;
+
+    enum TokenCachePersistence {
+        @Label("Memory")
+        MEMORY,
+
+        @Label("Encrypted file")
+        FILE;
+    }
+
     @ButtonWidget(actionHandler = LoginActionHandler.class, //
             updateHandler = LoginUpdateHandler.class, //
             showTitleAndDescription = false)
@@ -488,8 +581,11 @@ public class MicrosoftAuthenticatorSettings implements NodeParameters {
                     ? settings.m_customUserAgent
                     : null;
 
+            final var tokenCacheAspect = settings.m_tokenCachePersistence == TokenCachePersistence.FILE
+                    ? new PersistentTokenCacheAspect()
+                    : null;
             final var app = MSALUtil.createClientApp(settings.getClientId(), settings.getAuthorizationEndpointURL(),
-                    httpUserAgent);
+                    httpUserAgent, tokenCacheAspect);
 
             final var scopeList = settings.getScopes();
 
@@ -503,11 +599,18 @@ public class MicrosoftAuthenticatorSettings implements NodeParameters {
             try {
                 final var authResult = MSALUtil.doLogin(() -> app.acquireToken(params));
 
-                if (scopeList.isMultiResource()) {
-                    return CredentialCache.store(AccessTokenWithScopesCredentialFactory.create(app));
-                } else {
-                    return CredentialCache.store(JWTCredentialFactory.create(authResult, app));
+                final var credentialRef = scopeList.isMultiResource()
+                        ? CredentialCache.store(AccessTokenWithScopesCredentialFactory.create(app))
+                        : CredentialCache.store(JWTCredentialFactory.create(authResult, app));
+
+                if (tokenCacheAspect != null) {
+                    // the token cache is persisted under the key of the credential, which
+                    // is saved with the node settings and survives a restart, and the node
+                    // instance, so that copies of the node do not share it
+                    tokenCacheAspect.attach(
+                            MicrosoftAuthenticatorNodeModel.getTokenCacheStoreOfCurrentNode(credentialRef));
                 }
+                return credentialRef;
             } catch (IOException e) {
                 LOG.error(e.getMessage(), e);
                 throw new WidgetHandlerException(e.getMessage());
@@ -626,6 +729,21 @@ public class MicrosoftAuthenticatorSettings implements NodeParameters {
         validate();
     }
 
+    /**
+     * @return the scopes for which access tokens should be fetched during
+     *         execution, empty if prefetching is disabled
+     */
+    Set<String> getPrefetchScopes() {
+        if (!m_prefetchTokens) {
+            return Set.of();
+        }
+        return Stream.of(m_prefetchScopes)//
+                .map(s -> s.m_scope)//
+                .filter(StringUtils::isNotBlank)//
+                .map(String::trim)//
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
     /**
      * Validates the settings. The method is intended to be called in the execute
      * stage.
@@ -116,8 +116,7 @@ public final class ScopeResourceUtil {
      * @return A map where the keys are resource identifiers and the values are sets
      *         of scopes belonging to that resource.
      */
-    private static Map<String, Set<String>> groupScopesByResource(final Set<String> scopes) { // NOSONAR currently dead
-                                                                                              // code, for future use
+    public static Map<String, Set<String>> groupScopesByResource(final Set<String> scopes) {
 
         Map<String, Set<String>> groupedScopes = new HashMap<>();
         for (final var scope : scopes) {
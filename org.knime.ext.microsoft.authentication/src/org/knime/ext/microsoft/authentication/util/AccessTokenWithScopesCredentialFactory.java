@@ -49,8 +49,11 @@
 package org.knime.ext.microsoft.authentication.util;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.util.concurrent.ExecutionException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.knime.core.node.NodeLogger;
 import org.knime.credentials.base.oauth.api.AccessTokenWithScopesCredential;
@@ -83,22 +86,15 @@ public final class AccessTokenWithScopesCredentialFactory {
      *         token in the given public app to fetch an access tokens on-demand.
      */
     public static AccessTokenWithScopesCredential create(final PublicClientApplication publicApp) {
-        return new AccessTokenWithScopesCredential(scopes -> { // NOSONAR lambda expression is not too long
+        return createCaching(scopes -> () -> {
             try {
-                var params = SilentParameters.builder(scopes)//
+                return MSALUtil.doLogin(() -> publicApp.acquireTokenSilently(SilentParameters.builder(scopes)//
                         .account(publicApp.getAccounts().get().iterator().next())//
                         .forceRefresh(true)//
-                        .build();
-                var authResult = MSALUtil.doLogin(() -> publicApp.acquireTokenSilently(params));
-                return JWTCredentialFactory.create(authResult, publicApp);
+                        .build()));
             } catch (IOException ex) {
                 LOG.error(ex.getMessage(), ex);
-                throw new UncheckedIOException(ex);
-            } catch (InterruptedException ex) {
-                Thread.currentThread().interrupt(); // restore interrupted status
-                throw new UncheckedIOException(new IOException(ex));
-            } catch (ExecutionException ex) { // NOSONAR ExecutionException is just a wrapper
-                throw new UncheckedIOException(new IOException(ex.getCause()));
+                throw ex;
             }
         });
     }
@@ -115,15 +111,39 @@ public final class AccessTokenWithScopesCredentialFactory {
      *         requested scopes.
      */
     public static AccessTokenWithScopesCredential create(final ConfidentialClientApplication confidentialApp) {
-        return new AccessTokenWithScopesCredential(scopes -> { // NOSONAR lambda expression is not too long
+        return createCaching(scopes -> () -> {
             try {
                 var params = ClientCredentialParameters.builder(scopes).build();
-                var authResult = MSALUtil.doLogin(() -> confidentialApp.acquireToken(params));
-                return JWTCredentialFactory.create(authResult, confidentialApp, scopes);
+                return MSALUtil.doLogin(() -> confidentialApp.acquireToken(params));
             } catch (IOException ex) {
                 LOG.error(ex.getMessage(), ex);
-                throw new UncheckedIOException(ex);
+                throw ex;
             }
         });
     }
+
+    /**
+     * Creates a credential that keeps one {@link TokenRefresher} per normalized
+     * scope set. A token is therefore only acquired when a scope set is requested
+     * for the first time or when its token is about to expire. Refreshes of
+     * different scope sets run concurrently, while each scope set only has a
+     * single refresh in flight.
+     */
+    private static AccessTokenWithScopesCredential createCaching(
+            final Function<Set<String>, TokenRefresher.Acquirer> acquirerFactory) {
+
+        final var refreshers = new ConcurrentHashMap<Set<String>, TokenRefresher>();
+        return new AccessTokenWithScopesCredential(scopes -> {
+            final var refresher = refreshers.computeIfAbsent(normalizeScopes(scopes),
+                    normalized -> new TokenRefresher(acquirerFactory.apply(normalized), null));
+            return JWTCredentialFactory.create(refresher.get(), refresher);
+        });
+    }
+
+    private static Set<String> normalizeScopes(final Set<String> scopes) {
+        return scopes.stream()//
+                .map(String::trim)//
+                .filter(scope -> !scope.isEmpty())//
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
 }
@@ -0,0 +1,205 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.microsoft.authentication.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.InvalidAlgorithmParameterException;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.InvalidKeySpecException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.NoSuchPaddingException;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.crypto.Encrypter;
+import org.knime.core.util.crypto.IEncrypter;
+
+/**
+ * {@link TokenCacheStore} that keeps the token cache encrypted in a file in the
+ * KNIME home directory of the current user. On POSIX file systems the file is
+ * only readable by its owner. The file is specific to the key and the owner of
+ * the token cache, e.g. the node instance that logged in, so that copies of a
+ * node sharing the same key do not share or delete each other's login.
+ *
+ * <p>
+ * Once a store has deleted its token cache, it never writes it again. The
+ * credential it belongs to has been discarded, but its client application may
+ * still try to persist refreshed tokens.
+ * </p>
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+public final class FileTokenCacheStore implements TokenCacheStore {
+
+    private static final String TOKEN_CACHE_ENCRYPTION_SECRET = "Eiz4ohquoo#Nae5aiw7eeph9Ahng0ahSh!ei3Oov";
+
+    private static final String CACHE_DIRECTORY = "microsoft-token-caches";
+
+    private static final long MAX_FILE_SIZE = 1000L * 1000L;
+
+    private final Path m_file;
+
+    private volatile boolean m_deleted; // NOSONAR simple flag
+
+    /**
+     * @param key
+     *            the key of the token cache, e.g. the key of the credential that
+     *            was created from it
+     * @param owner
+     *            identifies the owner of the token cache, e.g. the node instance,
+     *            {@code null} if the token cache is only identified by its key
+     */
+    public FileTokenCacheStore(final UUID key, final String owner) {
+        final var name = owner == null ? key.toString() : (key + "-" + hash(owner));
+        m_file = Path.of(KNIMEConstants.getKNIMEHomeDir(), CACHE_DIRECTORY, name + ".cache");
+    }
+
+    private static String hash(final String owner) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256").digest(owner.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * @return whether a token cache has been stored
+     */
+    public boolean exists() {
+        return Files.isRegularFile(m_file);
+    }
+
+    @Override
+    public String read() throws IOException {
+        try {
+            if (Files.size(m_file) > MAX_FILE_SIZE) {
+                throw new IOException(
+                        String.format("File %s is too large to plausibly store a token.", m_file.toString()));
+            }
+            return decrypt(Files.readString(m_file, StandardCharsets.UTF_8));
+        } catch (NoSuchFileException e) { // NOSONAR nothing has been stored yet
+            return null;
+        }
+    }
+
+    @Override
+    public void write(final String tokenCache) throws IOException {
+        if (m_deleted) {
+            return;
+        }
+        final var dir = m_file.getParent();
+        Files.createDirectories(dir);
+
+        // write to a temporary file first, so that a crash never leaves a partial cache behind
+        final var tmp = Files.createTempFile(dir, m_file.getFileName().toString(), ".tmp");
+        try {
+            restrictToOwner(tmp);
+            Files.writeString(tmp, encrypt(tokenCache), StandardCharsets.UTF_8);
+            try {
+                Files.move(tmp, m_file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) { // NOSONAR fall back to a regular move
+                Files.move(tmp, m_file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    public void delete() throws IOException {
+        m_deleted = true;
+        Files.deleteIfExists(m_file);
+    }
+
+    private static void restrictToOwner(final Path file) throws IOException {
+        try {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) { // NOSONAR not a POSIX file system
+        }
+    }
+
+    private static String encrypt(final String plaintextString) throws IOException {
+        try {
+            return createEncrypter().encrypt(plaintextString);
+        } catch (InvalidKeyException | BadPaddingException | IllegalBlockSizeException
+                | InvalidAlgorithmParameterException ex) {
+            throw new IOException("Failed to encrypt token cache before saving to file", ex);
+        }
+    }
+
+    private static String decrypt(final String encryptedString) throws IOException {
+        try {
+            return createEncrypter().decrypt(encryptedString);
+        } catch (InvalidKeyException | BadPaddingException | IllegalBlockSizeException
+                | InvalidAlgorithmParameterException ex) {
+            throw new IOException("Failed to decrypt token cache read from file", ex);
+        }
+    }
+
+    private static IEncrypter createEncrypter() {
+        try {
+            return new Encrypter(TOKEN_CACHE_ENCRYPTION_SECRET);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidKeySpecException ex) {
+            throw new IllegalStateException("Could not create encrypter: " + ex.getMessage(), ex);
+        }
+    }
+}
@@ -49,14 +49,11 @@
 package org.knime.ext.microsoft.authentication.util;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.text.ParseException;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import org.knime.core.node.NodeLogger;
@@ -88,6 +85,12 @@ public final class JWTCredentialFactory {
      * provided authResult. Access tokens are refreshed using the access token in
      * the authResult.
      *
+     * <p>
+     * The returned credential and all credentials produced by its refresher share
+     * one {@link TokenRefresher}, which renews the token ahead of its expiry and
+     * only runs a single refresh at a time.
+     * </p>
+     *
      * @param authResult
      *            The authentication result.
      * @param publicApp
@@ -97,22 +100,11 @@ public final class JWTCredentialFactory {
     public static JWTCredential create(final IAuthenticationResult authResult,
             final PublicClientApplication publicApp) {
 
-        var accessToken = authResult.accessToken();
-        var idToken = authResult.idToken();
-        var expiresAfter = Optional.ofNullable(authResult.expiresOnDate())//
-                .map(Date::toInstant)//
-                .orElse(null);
-        var tokenType = "Bearer";
         var scopes = new HashSet<String>(extractScopes(authResult).stream()//
                 .filter(scope -> !scope.endsWith(".default"))//
                 .toList());
 
-        try {
-            return new JWTCredential(accessToken, tokenType, expiresAfter, idToken,
-                    createPublicClientRefresher(publicApp, scopes));
-        } catch (ParseException ex) {
-            throw new IllegalStateException("Failed to parse authentication result");
-        }
+        return create(authResult, new TokenRefresher(createPublicClientAcquirer(publicApp, scopes), authResult));
     }
 
     private static Set<String> extractScopes(final IAuthenticationResult authResult) {
@@ -124,25 +116,20 @@ public final class JWTCredentialFactory {
         }
     }
 
-    private static Supplier<JWTCredential> createPublicClientRefresher(final PublicClientApplication publicApp,
+    private static TokenRefresher.Acquirer createPublicClientAcquirer(final PublicClientApplication publicApp,
             final Set<String> scopes) {
 
-        return () -> {// NOSONAR
+        return () -> {
             try {
-                var params = SilentParameters.builder(scopes)//
+                // the refresh is forced, otherwise MSAL returns the cached token that
+                // we want to replace ahead of its expiry
+                return MSALUtil.doLogin(() -> publicApp.acquireTokenSilently(SilentParameters.builder(scopes)//
                         .account(publicApp.getAccounts().get().iterator().next())//
                         .forceRefresh(true)//
-                        .build();
-                var authResult = MSALUtil.doLogin(() -> publicApp.acquireTokenSilently(params));
-                return create(authResult, publicApp);
+                        .build()));
             } catch (IOException ex) {
                 LOG.error(ex.getMessage(), ex);
-                throw new UncheckedIOException(ex);
-            } catch (InterruptedException ex) {
-                Thread.currentThread().interrupt(); // restore interrupted status
-                throw new UncheckedIOException(new IOException(ex));
-            } catch (ExecutionException ex) { // NOSONAR ExecutionException is just a wrapper
-                throw new UncheckedIOException(new IOException(ex.getCause()));
+                throw ex;
             }
         };
     }
@@ -152,6 +139,12 @@ public final class JWTCredentialFactory {
      * authResult. Expired access tokens are replaced with the client credentials
      * flow using the provided confidential app.
      *
+     * <p>
+     * The returned credential and all credentials produced by its refresher share
+     * one {@link TokenRefresher}, which renews the token ahead of its expiry and
+     * only runs a single refresh at a time.
+     * </p>
+     *
      * @param authResult
      *            The authentication result.
      * @param confidentialApp
@@ -164,6 +157,29 @@ public final class JWTCredentialFactory {
     public static JWTCredential create(final IAuthenticationResult authResult,
             final ConfidentialClientApplication confidentialApp, final Set<String> requestedScopes) {
 
+        return create(authResult,
+                new TokenRefresher(createConfidentialClientAcquirer(confidentialApp, requestedScopes), authResult));
+    }
+
+    private static TokenRefresher.Acquirer createConfidentialClientAcquirer(
+            final ConfidentialClientApplication confidentialApp, final Set<String> scopes) {
+
+        return () -> {
+            try {
+                var params = ClientCredentialParameters.builder(scopes).build();
+                return MSALUtil.doLogin(() -> confidentialApp.acquireToken(params));
+            } catch (IOException ex) {
+                LOG.error(ex.getMessage(), ex);
+                throw ex;
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link JWTCredential} from the given authentication result whose
+     * refresher obtains the next token from the given {@link TokenRefresher}.
+     */
+    static JWTCredential create(final IAuthenticationResult authResult, final TokenRefresher refresher) {
         var accessToken = authResult.accessToken();
         var idToken = authResult.idToken();
         var expiresAfter = Optional.ofNullable(authResult.expiresOnDate())//
@@ -173,24 +189,9 @@ public final class JWTCredentialFactory {
 
         try {
             return new JWTCredential(accessToken, tokenType, expiresAfter, idToken,
-                    createConfidentialClientRefresher(confidentialApp, requestedScopes));
+                    () -> create(refresher.get(), refresher));
         } catch (ParseException ex) {
             throw new IllegalStateException("Failed to parse authentication result");
         }
     }
-
-    private static Supplier<JWTCredential> createConfidentialClientRefresher(
-            final ConfidentialClientApplication confidentialApp, final Set<String> scopes) {
-
-        return () -> {// NOSONAR
-            try {
-                var params = ClientCredentialParameters.builder(scopes).build();
-                var authResult = MSALUtil.doLogin(() -> confidentialApp.acquireToken(params));
-                return create(authResult, confidentialApp, scopes);
-            } catch (IOException ex) {
-                LOG.error(ex.getMessage(), ex);
-                throw new UncheckedIOException(ex);
-            }
-        };
-    }
 }
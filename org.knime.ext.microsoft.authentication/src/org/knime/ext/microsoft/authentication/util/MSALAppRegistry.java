@@ -0,0 +1,162 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.microsoft.authentication.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Process-wide registry of MSAL client applications. Reusing an application
+ * keeps its in-memory token cache, the discovered authority metadata and the
+ * connections of its HTTP client, so that repeated logins with the same
+ * configuration can be served from the token cache instead of going to the
+ * identity platform. The least recently used applications are evicted once
+ * the registry is full.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+final class MSALAppRegistry {
+
+    private static final int MAX_APPS = 64;
+
+    private static final String FINGERPRINT_ALGORITHM = "HmacSHA256";
+
+    /**
+     * Random key of the fingerprints, so that a fingerprint kept in memory cannot
+     * be used to guess the secrets without also knowing the key.
+     */
+    private static final SecretKeySpec FINGERPRINT_KEY;
+
+    static {
+        final var key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        FINGERPRINT_KEY = new SecretKeySpec(key, FINGERPRINT_ALGORITHM);
+    }
+
+    private static final Map<Key, Object> APPS = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, Object> eldest) {
+            return size() > MAX_APPS;
+        }
+    });
+
+    /**
+     * Identifies an application. The fingerprint is a keyed hash of the secrets
+     * the application authenticates with, so that the secrets themselves are not
+     * kept as keys and changed secrets result in a new application.
+     */
+    private record Key(Class<?> type, String clientId, String authority, String fingerprint, String userAgent) {
+    }
+
+    private MSALAppRegistry() {
+        // prevent instantiation
+    }
+
+    /**
+     * Returns the registered application for the given parameters or creates
+     * and registers a new one.
+     *
+     * @param <T>
+     *            the application type
+     * @param type
+     *            the application type
+     * @param clientId
+     *            the Application (client) ID
+     * @param authority
+     *            the authority URL
+     * @param fingerprint
+     *            the fingerprint of the credentials, see
+     *            {@link #fingerprint(String...)}
+     * @param userAgent
+     *            the HTTP User-Agent
+     * @param factory
+     *            creates the application if none is registered yet
+     * @return the application
+     */
+    static <T> T getOrCreate(final Class<T> type, final String clientId, final String authority,
+            final String fingerprint, final String userAgent, final Supplier<T> factory) {
+        final var key = new Key(type, clientId, authority, fingerprint, userAgent);
+        synchronized (APPS) {
+            return type.cast(APPS.computeIfAbsent(key, k -> factory.get()));
+        }
+    }
+
+    /**
+     * Computes an HMAC-SHA256 fingerprint of the given secrets with a random key
+     * created once per JVM.
+     *
+     * @param secrets
+     *            the secrets
+     * @return the hex encoded fingerprint
+     */
+    static String fingerprint(final String... secrets) {
+        try {
+            final var mac = Mac.getInstance(FINGERPRINT_ALGORITHM);
+            mac.init(FINGERPRINT_KEY);
+            for (final var secret : secrets) {
+                mac.update(secret.getBytes(StandardCharsets.UTF_8));
+                mac.update((byte)0);
+            }
+            return HexFormat.of().formatHex(mac.doFinal());
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex.getMessage(), ex);
+        }
+    }
+}
@@ -62,6 +62,8 @@ import org.knime.filehandling.core.defaultnodesettings.ExceptionUtil;
 import com.microsoft.aad.msal4j.ConfidentialClientApplication;
 import com.microsoft.aad.msal4j.IAuthenticationResult;
 import com.microsoft.aad.msal4j.IClientCredential;
+import com.microsoft.aad.msal4j.IClientSecret;
+import com.microsoft.aad.msal4j.ITokenCacheAccessAspect;
 import com.microsoft.aad.msal4j.MsalClientException;
 import com.microsoft.aad.msal4j.MsalException;
 import com.microsoft.aad.msal4j.PublicClientApplication;
@@ -118,17 +120,43 @@ public final class MSALUtil {
      * @return the {@link PublicClientApplication}.
      */
     public static PublicClientApplication createClientApp(final String appId, final String endpoint,
-            String userAgent) {
+            final String userAgent) {
+        return createClientApp(appId, endpoint, userAgent, null);
+    }
+
+    /**
+     * Creates the {@link PublicClientApplication} instance with a custom token
+     * cache persistence.
+     *
+     * @param appId
+     *            The Application (client) ID.
+     * @param endpoint
+     *            The OAuth authorization endpoint URL to use with the
+     *            {@link PublicClientApplication}.
+     * @param userAgent
+     *            The HTTP User-Agent to use. May be null, in which case a default
+     *            User-Agent will be used.
+     * @param tokenCacheAspect
+     *            The aspect that loads and persists the token cache. May be null,
+     *            in which case the token cache is only kept in memory.
+     *
+     * @return the {@link PublicClientApplication}.
+     */
+    public static PublicClientApplication createClientApp(final String appId, final String endpoint,
+            String userAgent, final ITokenCacheAccessAspect tokenCacheAspect) {
 
         if (StringUtils.isBlank(userAgent)) {
             userAgent = DEFAULT_USER_AGENT;
         }
 
         try {
-            return PublicClientApplication.builder(appId) //
+            final var builder = PublicClientApplication.builder(appId) //
                     .authority(endpoint) //
-                    .httpClient(new OkHttpClientAdapter(userAgent)) //
-                    .build();
+                    .httpClient(new OkHttpClientAdapter(userAgent));
+            if (tokenCacheAspect != null) {
+                builder.setTokenCacheAccessAspect(tokenCacheAspect);
+            }
+            return builder.build();
         } catch (MalformedURLException ex) {
             throw new IllegalStateException(ex.getMessage(), ex);
         }
@@ -164,6 +192,37 @@ public final class MSALUtil {
         }
     }
 
+    /**
+     * Returns a {@link PublicClientApplication} for logging in with the given
+     * username and password. The application is shared with previous logins of the
+     * same user with the same password, client ID, endpoint and User-Agent, so its
+     * token cache can be used to acquire tokens silently. Since the application
+     * only ever holds the account of the given user, it can safely be used with
+     * the refreshers of {@link JWTCredentialFactory}.
+     *
+     * @param appId
+     *            The Application (client) ID.
+     * @param endpoint
+     *            The OAuth authorization endpoint URL to use with the
+     *            {@link PublicClientApplication}.
+     * @param username
+     *            The username to log in with.
+     * @param password
+     *            The password to log in with.
+     * @param userAgent
+     *            The HTTP User-Agent to use. May be null, in which case a default
+     *            User-Agent will be used.
+     * @return the (possibly shared) {@link PublicClientApplication}.
+     */
+    public static PublicClientApplication getSharedClientApp(final String appId, final String endpoint,
+            final String username, final String password, final String userAgent) {
+
+        final var effectiveUserAgent = StringUtils.isBlank(userAgent) ? DEFAULT_USER_AGENT : userAgent;
+        return MSALAppRegistry.getOrCreate(PublicClientApplication.class, appId, endpoint,
+                MSALAppRegistry.fingerprint(username, password), effectiveUserAgent,
+                () -> createClientApp(appId, endpoint, effectiveUserAgent));
+    }
+
     /**
      * Creates a {@link ConfidentialClientApplication} instance.
      *
@@ -177,7 +236,9 @@ public final class MSALUtil {
      * @param userAgent
      *            The HTTP User-Agent to use. May be null, in which case a default
      *            User-Agent will be used.
-     * @return the {@link ConfidentialClientApplication}.
+     * @return the {@link ConfidentialClientApplication}. Applications that use a
+     *         client secret are shared between calls with the same parameters,
+     *         so that their token cache can be reused.
      */
     public static ConfidentialClientApplication createConfidentialApp(final String appId, final String endpoint,
             final IClientCredential secret, String userAgent) {
@@ -186,6 +247,17 @@ public final class MSALUtil {
             userAgent = DEFAULT_USER_AGENT;
         }
 
+        if (secret instanceof IClientSecret clientSecret) {
+            final var effectiveUserAgent = userAgent;
+            return MSALAppRegistry.getOrCreate(ConfidentialClientApplication.class, appId, endpoint,
+                    MSALAppRegistry.fingerprint(clientSecret.clientSecret()), effectiveUserAgent,
+                    () -> buildConfidentialApp(appId, endpoint, secret, effectiveUserAgent));
+        }
+        return buildConfidentialApp(appId, endpoint, secret, userAgent);
+    }
+
+    private static ConfidentialClientApplication buildConfidentialApp(final String appId, final String endpoint,
+            final IClientCredential secret, final String userAgent) {
         try {
             return ConfidentialClientApplication.builder(appId, secret) //
                     .authority(endpoint) //
@@ -240,17 +312,26 @@ public final class MSALUtil {
     @SuppressWarnings("null")
     public static IAuthenticationResult doLogin(final LoginFunction loginFunction) throws IOException {
         CompletableFuture<IAuthenticationResult> authFuture = null;
+        final var metrics = TokenMetrics.getInstance();
+        final var start = System.nanoTime();
         try {
             authFuture = loginFunction.login();
-            return authFuture.get();
+            final var result = authFuture.get();
+            metrics.recordSuccess(result, System.nanoTime() - start);
+            return result;
         } catch (MsalException e) {
+            metrics.recordFailure(e);
             throw new IOException(formatException(e), e);
         } catch (InterruptedException | CancellationException ex) { // NOSONAR
-            // need to cancel the future if current thread is interrupted
-            authFuture.cancel(true); // NOSONAR it's not null
+            // need to cancel the future if current thread is interrupted; the login
+            // function itself may have been interrupted before creating the future
+            if (authFuture != null) {
+                authFuture.cancel(true);
+            }
             throw new IOException("Login cancelled/interrupted");
         } catch (ExecutionException ex) { // NOSONAR rethrowing the cause
             var cause = ex.getCause();
+            metrics.recordFailure(cause);
             throw new IOException(formatException(cause), cause);
         }
     }
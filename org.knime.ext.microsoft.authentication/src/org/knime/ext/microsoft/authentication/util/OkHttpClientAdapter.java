@@ -48,11 +48,13 @@
  */
 package org.knime.ext.microsoft.authentication.util;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.StringUtils;
 import org.knime.core.node.util.CheckUtils;
@@ -63,7 +65,9 @@ import com.microsoft.aad.msal4j.HttpResponse;
 import com.microsoft.aad.msal4j.IHttpClient;
 import com.microsoft.aad.msal4j.IHttpResponse;
 
+import okhttp3.ConnectionPool;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
@@ -79,7 +83,19 @@ public class OkHttpClientAdapter implements IHttpClient {
     private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(30);
     private static final Duration READ_TIMEOUT = Duration.ofSeconds(30);
 
-    private final OkHttpClient m_client;
+    /**
+     * All adapters share one client, i.e. one connection pool and dispatcher, so
+     * that connections to the identity endpoints are reused across MSAL
+     * applications. HTTP/2 is preferred, which allows concurrent token requests
+     * to be multiplexed over a single connection.
+     */
+    private static final OkHttpClient SHARED_CLIENT = new OkHttpClient.Builder() //
+            .proxyAuthenticator(new OkHttpProxyAuthenticator()) //
+            .connectTimeout(CONNECT_TIMEOUT) //
+            .readTimeout(READ_TIMEOUT) //
+            .connectionPool(new ConnectionPool(10, 5, TimeUnit.MINUTES)) //
+            .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1)) //
+            .build();
 
     private final String m_userAgent;
 
@@ -92,27 +108,16 @@ public class OkHttpClientAdapter implements IHttpClient {
     public OkHttpClientAdapter(final String userAgent) {
         CheckUtils.checkArgument(StringUtils.isNotBlank(userAgent), "HTTP User-Agent must not be blank.");
         m_userAgent = userAgent;
-        m_client = new OkHttpClient.Builder() //
-                .proxyAuthenticator(new OkHttpProxyAuthenticator()) //
-                .connectTimeout(CONNECT_TIMEOUT) //
-                .readTimeout(READ_TIMEOUT) //
-                .build();
     }
 
-    @SuppressWarnings("resource")
     @Override
     public IHttpResponse send(final HttpRequest httpRequest) throws Exception {
-        var okRequest = buildRequest(httpRequest);
-
-        if (okRequest != null) {
-            final var response = m_client.newCall(okRequest).execute();
+        try (final var response = SHARED_CLIENT.newCall(buildRequest(httpRequest)).execute()) {
             return buildHttpResponse(response);
-        } else {
-            return null;
         }
     }
 
-    private Request buildRequest(final HttpRequest httpRequest) throws IOException {
+    private Request buildRequest(final HttpRequest httpRequest) {
         final var builder = new Request.Builder() //
                 .header("User-Agent", m_userAgent) //
                 .url(httpRequest.url());
@@ -125,44 +130,32 @@ public class OkHttpClientAdapter implements IHttpClient {
             }
         }
 
-        switch (httpRequest.httpMethod()) {
-            case GET:
-                builder.get();
-                break;
-            case POST:
-                builder.post(createRequestBody(httpRequest));
-                break;
-            default:
-                return null;
-        }
-
-        return builder.build();
+        final var method = httpRequest.httpMethod().name();
+        return builder.method(method, createRequestBody(method, httpRequest)).build();
     }
 
-    @SuppressWarnings("deprecation")
-    private static RequestBody createRequestBody(final HttpRequest request) throws IOException {
-        var baOut = new ByteArrayOutputStream();
-        try (var wr = new DataOutputStream(baOut)) {
-            wr.writeBytes(request.body());
-            wr.flush();
-            return RequestBody.create(null, baOut.toByteArray());
+    private static RequestBody createRequestBody(final String method, final HttpRequest request) {
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return null; // OkHttp does not allow a body for these methods
         }
+        // MSAL sends the Content-Type as a header, hence no media type here
+        final var body = request.body();
+        return RequestBody.create(body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8), null);
     }
 
     @SuppressWarnings("resource")
     private static IHttpResponse buildHttpResponse(final Response response) throws IOException {
         final var httpResponse = new HttpResponse().statusCode(response.code());
 
-        if (response.body() != null) {
-            httpResponse.body(response.body().string());
-        } else {
-            httpResponse.body("");
-        }
+        // MSAL expects the whole body as string
+        final var body = response.body();
+        httpResponse.body(body != null ? body.string() : "");
 
-        final var headers = response.headers()//
-                .names()//
-                .stream()//
-                .collect(Collectors.toMap(n -> n, response::headers));
+        final var okHeaders = response.headers();
+        final var headers = new LinkedHashMap<String, List<String>>();
+        for (var i = 0; i < okHeaders.size(); i++) {
+            headers.computeIfAbsent(okHeaders.name(i), n -> new ArrayList<>(1)).add(okHeaders.value(i));
+        }
         httpResponse.addHeaders(headers);
         return httpResponse;
     }
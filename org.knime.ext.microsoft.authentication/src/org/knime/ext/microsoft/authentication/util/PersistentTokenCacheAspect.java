@@ -0,0 +1,191 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.microsoft.authentication.util;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.knime.core.node.NodeLogger;
+
+import com.microsoft.aad.msal4j.ITokenCacheAccessAspect;
+import com.microsoft.aad.msal4j.ITokenCacheAccessContext;
+
+/**
+ * {@link ITokenCacheAccessAspect} that loads the token cache of an MSAL client
+ * application from a {@link TokenCacheStore} on first access and writes it back
+ * when it has changed. Writes are debounced, i.e. several changes within a
+ * short period of time result in a single write of the latest state.
+ *
+ * <p>
+ * The store can be attached after the application has been created, which
+ * allows to persist the token cache of an interactive login under the key of
+ * the credential that is only known once the login has completed.
+ * </p>
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+public final class PersistentTokenCacheAspect implements ITokenCacheAccessAspect {
+
+    private static final NodeLogger LOG = NodeLogger.getLogger(PersistentTokenCacheAspect.class);
+
+    private static final long WRITE_DELAY_SECONDS = 5;
+
+    private static final ScheduledExecutorService WRITER = createWriter();
+
+    private final AtomicBoolean m_writeScheduled = new AtomicBoolean();
+
+    private volatile TokenCacheStore m_store; // NOSONAR only replaced as a whole
+
+    private volatile String m_pending; // NOSONAR only replaced as a whole
+
+    private volatile boolean m_loaded; // NOSONAR simple flag
+
+    /**
+     * Creates an aspect that loads the token cache from the given store.
+     *
+     * @param store
+     *            the store to load the token cache from and to write it to
+     */
+    public PersistentTokenCacheAspect(final TokenCacheStore store) {
+        m_store = store;
+    }
+
+    /**
+     * Creates an aspect without a store. Changes of the token cache are kept until
+     * a store is attached with {@link #attach(TokenCacheStore)}.
+     */
+    public PersistentTokenCacheAspect() {
+        m_loaded = true;
+    }
+
+    /**
+     * Attaches the store and immediately writes the current token cache to it.
+     * Nothing is loaded from the store, since the in-memory token cache is
+     * considered the most recent one.
+     *
+     * @param store
+     *            the store to write the token cache to
+     * @throws IOException
+     *             if the token cache could not be written
+     */
+    public void attach(final TokenCacheStore store) throws IOException {
+        m_store = store;
+        flush();
+    }
+
+    @Override
+    public void beforeCacheAccess(final ITokenCacheAccessContext context) {
+        if (m_loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!m_loaded) {
+                try {
+                    final var tokenCache = m_store.read();
+                    if (tokenCache != null) {
+                        context.tokenCache().deserialize(tokenCache);
+                    }
+                } catch (IOException | RuntimeException e) { // NOSONAR start with an empty cache
+                    LOG.warn("Could not load the persisted token cache: " + e.getMessage(), e);
+                }
+                m_loaded = true;
+            }
+        }
+    }
+
+    @Override
+    public void afterCacheAccess(final ITokenCacheAccessContext context) {
+        if (!context.hasCacheChanged()) {
+            return;
+        }
+        m_pending = context.tokenCache().serialize();
+        if (m_store != null && m_writeScheduled.compareAndSet(false, true)) {
+            WRITER.schedule(this::writeQuietly, WRITE_DELAY_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Writes pending changes of the token cache to the store right away.
+     *
+     * @throws IOException
+     *             if the token cache could not be written
+     */
+    public synchronized void flush() throws IOException {
+        m_writeScheduled.set(false);
+        final var store = m_store;
+        final var pending = m_pending;
+        if (store != null && pending != null) {
+            store.write(pending);
+            if (m_pending == pending) { // NOSONAR identity is intended, a newer state must be written later
+                m_pending = null;
+            }
+        }
+    }
+
+    private void writeQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            LOG.warn("Could not persist the token cache: " + e.getMessage(), e);
+        }
+    }
+
+    private static ScheduledExecutorService createWriter() {
+        final var executor = new ScheduledThreadPoolExecutor(1, r -> {
+            final var thread = new Thread(r, "KNIME-Microsoft-Token-Cache-Writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+}
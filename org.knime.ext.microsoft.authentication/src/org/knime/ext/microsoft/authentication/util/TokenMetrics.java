@@ -0,0 +1,238 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.microsoft.authentication.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.knime.core.node.NodeLogger;
+
+import com.microsoft.aad.msal4j.IAuthenticationResult;
+import com.microsoft.aad.msal4j.MsalException;
+import com.microsoft.aad.msal4j.TokenSource;
+
+/**
+ * Process-wide metrics of the token acquisitions of the Microsoft
+ * authentication, e.g. to find out whether the identity platform is a
+ * bottleneck or throttles requests. The metrics are registered as MBean
+ * {@value #OBJECT_NAME}.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+public final class TokenMetrics implements TokenMetricsMXBean {
+
+    private static final NodeLogger LOG = NodeLogger.getLogger(TokenMetrics.class);
+
+    /**
+     * The name under which the metrics are registered with JMX.
+     */
+    public static final String OBJECT_NAME = "org.knime.ext.microsoft.authentication:type=TokenMetrics";
+
+    private static final String OTHER_ERROR_CODE = "other";
+
+    /** Upper bounds of the latency histogram buckets in milliseconds. */
+    private static final long[] BUCKET_BOUNDS_MILLIS = { 50, 100, 250, 500, 1000, 2500, 5000, 10000 };
+
+    private static final TokenMetrics INSTANCE = new TokenMetrics();
+
+    static {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        } catch (JMException | SecurityException e) { // NOSONAR metrics are optional
+            LOG.debug("Could not register token metrics with JMX: " + e.getMessage(), e);
+        }
+    }
+
+    private final LongAdder m_cacheHits = new LongAdder();
+
+    private final LongAdder m_networkAcquisitions = new LongAdder();
+
+    private final LongAdder m_networkLatencyNanos = new LongAdder();
+
+    private final LongAdder[] m_latencyBuckets = new LongAdder[BUCKET_BOUNDS_MILLIS.length + 1];
+
+    private final Map<String, LongAdder> m_failures = new ConcurrentHashMap<>();
+
+    private final LongAdder m_refreshes = new LongAdder();
+
+    private final LongAdder m_inFlightRefreshWaits = new LongAdder();
+
+    private TokenMetrics() {
+        for (var i = 0; i < m_latencyBuckets.length; i++) {
+            m_latencyBuckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @return the process-wide metrics
+     */
+    public static TokenMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records a successful token acquisition.
+     *
+     * @param result
+     *            the authentication result
+     * @param nanos
+     *            the time it took to acquire the token
+     */
+    void recordSuccess(final IAuthenticationResult result, final long nanos) {
+        final var metadata = result.metadata();
+        if (metadata != null && metadata.tokenSource() == TokenSource.CACHE) {
+            m_cacheHits.increment();
+            return;
+        }
+
+        m_networkAcquisitions.increment();
+        m_networkLatencyNanos.add(nanos);
+        final var millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        var bucket = 0;
+        while (bucket < BUCKET_BOUNDS_MILLIS.length && millis > BUCKET_BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+        m_latencyBuckets[bucket].increment();
+    }
+
+    /**
+     * Records a failed token acquisition.
+     *
+     * @param error
+     *            the error, may be an {@link MsalException} or wrap one
+     */
+    void recordFailure(final Throwable error) {
+        var errorCode = OTHER_ERROR_CODE;
+        for (var t = error; t != null; t = t.getCause()) {
+            if (t instanceof MsalException msalEx && msalEx.errorCode() != null) {
+                errorCode = msalEx.errorCode();
+                break;
+            }
+        }
+        m_failures.computeIfAbsent(errorCode, k -> new LongAdder()).increment();
+    }
+
+    void recordRefresh() {
+        m_refreshes.increment();
+    }
+
+    void recordInFlightRefreshWait() {
+        m_inFlightRefreshWaits.increment();
+    }
+
+    @Override
+    public long getCacheHits() {
+        return m_cacheHits.sum();
+    }
+
+    @Override
+    public long getNetworkAcquisitions() {
+        return m_networkAcquisitions.sum();
+    }
+
+    @Override
+    public long getFailures() {
+        return m_failures.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    @Override
+    public Map<String, Long> getFailuresByErrorCode() {
+        final var result = new TreeMap<String, Long>();
+        m_failures.forEach((code, count) -> result.put(code, count.sum()));
+        return result;
+    }
+
+    @Override
+    public long getRefreshes() {
+        return m_refreshes.sum();
+    }
+
+    @Override
+    public long getInFlightRefreshWaits() {
+        return m_inFlightRefreshWaits.sum();
+    }
+
+    @Override
+    public double getMeanNetworkLatencyMillis() {
+        final var count = m_networkAcquisitions.sum();
+        return count == 0 ? 0 : (m_networkLatencyNanos.sum() / 1e6) / count;
+    }
+
+    @Override
+    public Map<String, Long> getNetworkLatencyHistogram() {
+        final var result = new LinkedHashMap<String, Long>();
+        for (var i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+            result.put("<=" + BUCKET_BOUNDS_MILLIS[i] + "ms", m_latencyBuckets[i].sum());
+        }
+        result.put(">" + BUCKET_BOUNDS_MILLIS[BUCKET_BOUNDS_MILLIS.length - 1] + "ms",
+                m_latencyBuckets[BUCKET_BOUNDS_MILLIS.length].sum());
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        m_cacheHits.reset();
+        m_networkAcquisitions.reset();
+        m_networkLatencyNanos.reset();
+        for (final var bucket : m_latencyBuckets) {
+            bucket.reset();
+        }
+        m_failures.clear();
+        m_refreshes.reset();
+        m_inFlightRefreshWaits.reset();
+    }
+}
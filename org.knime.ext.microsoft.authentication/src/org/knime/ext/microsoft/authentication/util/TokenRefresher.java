@@ -0,0 +1,279 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.microsoft.authentication.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.knime.core.node.NodeLogger;
+
+import com.microsoft.aad.msal4j.IAuthenticationResult;
+
+/**
+ * Keeps the latest {@link IAuthenticationResult} of a credential and renews it
+ * ahead of time. Concurrent refresh attempts are joined into a single in-flight
+ * request and callers are never blocked while the current token is still
+ * valid. A background refresh is scheduled a configurable margin (system
+ * property {@value #MARGIN_PROPERTY}, in seconds) before the token expires, but
+ * only if the current token has been handed out, so that unused credentials do
+ * not keep talking to the identity platform. A credential picks up the renewed
+ * token when its own token expires, which hands it out and thereby schedules
+ * the next renewal.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+final class TokenRefresher {
+
+    private static final NodeLogger LOG = NodeLogger.getLogger(TokenRefresher.class);
+
+    /**
+     * System property that configures the refresh-ahead margin in seconds.
+     */
+    static final String MARGIN_PROPERTY = "knime.microsoft.auth.refreshMarginSeconds";
+
+    private static final long DEFAULT_MARGIN_SECONDS = 300;
+
+    /**
+     * Tokens that expire within this skew are not handed out anymore, since they
+     * might already be expired when they reach the server.
+     */
+    private static final Duration EXPIRY_SKEW = Duration.ofSeconds(30);
+
+    private static final ScheduledExecutorService SCHEDULER = createScheduler();
+
+    /**
+     * Acquires a new token from the identity platform.
+     */
+    @FunctionalInterface
+    interface Acquirer {
+        /**
+         * @return the new authentication result
+         * @throws IOException
+         *             if the token could not be acquired
+         */
+        IAuthenticationResult acquire() throws IOException;
+    }
+
+    private final Acquirer m_acquirer;
+
+    private final Duration m_margin;
+
+    private final ScheduledExecutorService m_scheduler;
+
+    private final AtomicReference<CompletableFuture<IAuthenticationResult>> m_inFlight = new AtomicReference<>();
+
+    private volatile IAuthenticationResult m_current; // NOSONAR only replaced as a whole
+
+    /** The last result handed out to a credential, {@code null} if none. */
+    private volatile IAuthenticationResult m_handedOut; // NOSONAR only replaced as a whole
+
+    /**
+     * @param acquirer
+     *            the function that acquires new tokens
+     * @param initial
+     *            the initial authentication result, which the caller hands out;
+     *            may be <code>null</code>
+     */
+    TokenRefresher(final Acquirer acquirer, final IAuthenticationResult initial) {
+        this(acquirer, initial, getMargin(), SCHEDULER);
+    }
+
+    /**
+     * @param acquirer
+     *            the function that acquires new tokens
+     * @param initial
+     *            the initial authentication result, which the caller hands out;
+     *            may be <code>null</code>
+     * @param margin
+     *            how long before the expiry of a token it is renewed
+     * @param scheduler
+     *            the scheduler of the renewals
+     */
+    TokenRefresher(final Acquirer acquirer, final IAuthenticationResult initial, final Duration margin,
+            final ScheduledExecutorService scheduler) {
+        m_acquirer = acquirer;
+        m_margin = margin;
+        m_scheduler = scheduler;
+        m_current = initial;
+        m_handedOut = initial;
+        if (initial != null) {
+            scheduleRefresh(initial);
+        }
+    }
+
+    /**
+     * Returns a valid authentication result. If the current one is still valid it
+     * is returned immediately, otherwise the caller joins the (single) in-flight
+     * refresh.
+     *
+     * @return a valid authentication result
+     * @throws UncheckedIOException
+     *             if the token had to be refreshed and the refresh failed
+     */
+    IAuthenticationResult get() {
+        final var current = m_current;
+        if (current != null && isValid(current)) {
+            m_handedOut = current;
+            return current;
+        }
+        try {
+            final var result = refresh().join();
+            m_handedOut = result;
+            return result;
+        } catch (CompletionException ex) { // NOSONAR only a wrapper
+            final var cause = ex.getCause();
+            if (cause instanceof IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            } else if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new UncheckedIOException(new IOException(cause));
+        }
+    }
+
+    /**
+     * Starts a refresh unless one is already in flight.
+     *
+     * @return the future of the in-flight refresh
+     */
+    private CompletableFuture<IAuthenticationResult> refresh() {
+        final var future = new CompletableFuture<IAuthenticationResult>();
+        while (true) {
+            final var existing = m_inFlight.get();
+            if (existing != null) {
+                TokenMetrics.getInstance().recordInFlightRefreshWait();
+                return existing;
+            }
+            if (m_inFlight.compareAndSet(null, future)) {
+                break;
+            }
+        }
+
+        TokenMetrics.getInstance().recordRefresh();
+        try {
+            final var result = m_acquirer.acquire();
+            m_current = result;
+            scheduleRefresh(result);
+            future.complete(result);
+        } catch (IOException | RuntimeException ex) { // NOSONAR pass every failure to the waiting threads
+            LOG.debug("Could not refresh access token: " + ex.getMessage(), ex);
+            future.completeExceptionally(ex);
+        } finally {
+            m_inFlight.compareAndSet(future, null);
+        }
+        return future;
+    }
+
+    private void scheduleRefresh(final IAuthenticationResult result) {
+        final var expiresAt = getExpiry(result);
+        if (expiresAt.isEmpty()) {
+            return;
+        }
+        final var delay = Duration.between(Instant.now(), expiresAt.get().minus(m_margin)).toMillis();
+        if (delay <= 0) {
+            // the token lifetime is shorter than the margin, refresh on demand
+            return;
+        }
+
+        // only hold a weak reference so that credentials which are not used
+        // anymore can be garbage collected
+        final var ref = new WeakReference<>(this);
+        m_scheduler.schedule(() -> {
+            final var refresher = ref.get();
+            if (refresher != null && refresher.m_current == result && refresher.m_handedOut == result) {
+                refresher.refresh();
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private static boolean isValid(final IAuthenticationResult result) {
+        return getExpiry(result)//
+                .map(expiry -> Instant.now().plus(EXPIRY_SKEW).isBefore(expiry))//
+                .orElse(true);
+    }
+
+    private static Optional<Instant> getExpiry(final IAuthenticationResult result) {
+        return Optional.ofNullable(result.expiresOnDate()).map(Date::toInstant);
+    }
+
+    private static Duration getMargin() {
+        final var value = System.getProperty(MARGIN_PROPERTY);
+        if (value != null) {
+            try {
+                return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+            } catch (NumberFormatException ex) { // NOSONAR fall back to the default
+                LOG.warn("Invalid value for system property " + MARGIN_PROPERTY + ": " + value);
+            }
+        }
+        return Duration.ofSeconds(DEFAULT_MARGIN_SECONDS);
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        final var count = new AtomicInteger();
+        final var executor = new ScheduledThreadPoolExecutor(2, r -> {
+            final var thread = new Thread(r, "KNIME-Microsoft-Token-Refresher-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-19 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint.filehandling.fs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.knime.ext.sharepoint.settings.SiteMode;
+
+import com.microsoft.graph.requests.GraphServiceClient;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Tests the lookup of drives by {@link SharepointFileSystem}.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+final class SharepointFileSystemTest {
+
+    private static final long CACHE_TTL = 60_000;
+
+    private FakeGraph m_graph;
+
+    private SharepointFileSystem m_fs;
+
+    /**
+     * Answers requests for the root site and the drives of the current site,
+     * recording the requests as "site", "filter" and "list". Requests for other
+     * sites are answered with a 404 response.
+     */
+    private static final class FakeGraph implements Interceptor {
+
+        private static final MediaType JSON = MediaType.get("application/json");
+
+        private final List<String> m_requests = new CopyOnWriteArrayList<>();
+
+        /** The IDs of the drives by their name. */
+        private final Map<String, String> m_drives = new ConcurrentHashMap<>();
+
+        private volatile String m_siteId = "site1";
+
+        private volatile boolean m_filterSupported = true;
+
+        @Override
+        public Response intercept(final Chain chain) {
+            final var url = chain.request().url();
+            final var segments = url.pathSegments();
+            final var siteId = segments.get(segments.indexOf("sites") + 1);
+            if ("root".equals(siteId)) {
+                m_requests.add("site");
+                return respond(chain, 200, "{\"id\":\"" + m_siteId + "\"}");
+            }
+            final var filter = url.queryParameter("$filter");
+            m_requests.add(filter != null ? "filter" : "list");
+            if (!siteId.equals(m_siteId)) {
+                return respond(chain, 404, "{\"error\":{\"code\":\"itemNotFound\",\"message\":\"Not found\"}}");
+            } else if (filter != null && !m_filterSupported) {
+                return respond(chain, 400, "{\"error\":{\"code\":\"invalidRequest\",\"message\":\"Invalid\"}}");
+            }
+            final var drives = m_drives.entrySet().stream()//
+                    .filter(e -> filter == null || filter.equals("name eq '" + e.getKey().replace("'", "''") + "'"))//
+                    .map(e -> "{\"id\":\"" + e.getValue() + "\",\"name\":\"" + e.getKey() + "\"}")//
+                    .collect(Collectors.joining(","));
+            return respond(chain, 200, "{\"value\":[" + drives + "]}");
+        }
+
+        private static Response respond(final Chain chain, final int code, final String body) {
+            return new Response.Builder()//
+                    .request(chain.request())//
+                    .protocol(Protocol.HTTP_1_1)//
+                    .code(code)//
+                    .message(code == 200 ? "OK" : "Error")//
+                    .body(ResponseBody.create(body, JSON))//
+                    .build();
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        m_graph = new FakeGraph();
+        m_graph.m_drives.put("Documents", "drive1");
+        final GraphServiceClient<Request> client = GraphServiceClient.builder()//
+                .httpClient(new OkHttpClient.Builder().addInterceptor(m_graph).build())//
+                .buildClient();
+        final var config = new SharepointFSConnectionConfig(SharepointFileSystem.PATH_SEPARATOR, null);
+        config.setMode(SiteMode.ROOT);
+        m_fs = new SharepointFileSystem(config, CACHE_TTL, client);
+        m_graph.m_requests.clear();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        m_fs.close();
+    }
+
+    private List<String> driveNames() throws IOException {
+        return m_fs.getDrives().stream().map(d -> d.name).sorted().toList();
+    }
+
+    @Test
+    void testDriveIsLookedUpByName() throws IOException {
+        assertEquals("drive1", m_fs.getDriveId("Documents"));
+        assertEquals("drive1", m_fs.getDriveId("Documents"));
+        assertEquals(List.of("filter"), m_graph.m_requests);
+    }
+
+    @Test
+    void testMissingDriveIsRemembered() throws IOException {
+        assertNull(m_fs.getDriveId("Other"));
+        assertNull(m_fs.getDriveId("Other"));
+        assertEquals(List.of("filter"), m_graph.m_requests);
+    }
+
+    @Test
+    void testMissingEscapedDriveIsRemembered() throws IOException {
+        // names which may contain an escaped '/' require listing all drives
+        assertNull(m_fs.getDriveId("a$_$b"));
+        assertNull(m_fs.getDriveId("a$_$b"));
+        assertEquals(List.of("list"), m_graph.m_requests);
+
+        m_graph.m_drives.put("a/b", "drive2");
+        m_graph.m_requests.clear();
+        assertEquals(List.of("Documents", "a/b"), driveNames());
+        assertEquals("drive2", m_fs.getDriveId("a$_$b"));
+        assertEquals(List.of("list"), m_graph.m_requests);
+    }
+
+    @Test
+    void testUnsupportedFilterFallsBackToListing() throws IOException {
+        m_graph.m_filterSupported = false;
+        assertEquals("drive1", m_fs.getDriveId("Documents"));
+        assertEquals(List.of("filter", "list"), m_graph.m_requests);
+    }
+
+    @Test
+    void testSiteIsResolvedAgainIfNotFound() throws IOException {
+        m_graph.m_siteId = "site2";
+        assertEquals("drive1", m_fs.getDriveId("Documents"));
+        assertEquals(List.of("filter", "site", "filter"), m_graph.m_requests);
+    }
+
+    @Test
+    void testDrivesAreListedAgainAfterNewDriveWasFound() throws IOException {
+        assertEquals(List.of("Documents"), driveNames());
+        assertEquals(List.of("Documents"), driveNames());
+        assertEquals(List.of("list"), m_graph.m_requests);
+
+        m_graph.m_drives.put("New", "drive2");
+        assertEquals("drive2", m_fs.getDriveId("New"));
+        assertEquals(List.of("Documents", "New"), driveNames());
+        assertEquals(List.of("list", "filter", "list"), m_graph.m_requests);
+    }
+
+    @Test
+    void testLookedUpDrivesAreNotAllDrives() throws IOException {
+        m_graph.m_drives.put("Other", "drive2");
+        m_fs.getDriveId("Documents");
+        // a single looked up drive must not be taken for the list of all drives
+        assertEquals(List.of("Documents", "Other"), driveNames());
+    }
+}
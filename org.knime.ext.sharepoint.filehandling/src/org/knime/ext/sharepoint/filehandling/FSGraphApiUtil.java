@@ -131,6 +131,18 @@ public final class FSGraphApiUtil {
         return name.replace(SharepointFileSystem.PATH_SEPARATOR, SEPARATOR_REPLACEMENT);
     }
 
+    /**
+     * Checks whether the given drive name may be the result of
+     * {@link #escapeDriveName(String)} replacing a '/' character.
+     *
+     * @param name
+     *            The (escaped) drive name.
+     * @return {@code true} if the name contains the '$_$' sequence.
+     */
+    public static boolean isEscapedDriveName(final String name) {
+        return name.contains(SEPARATOR_REPLACEMENT);
+    }
+
     /**
      * Wrapped {@link GraphServiceException} with more user-friendly error message
      * extracted
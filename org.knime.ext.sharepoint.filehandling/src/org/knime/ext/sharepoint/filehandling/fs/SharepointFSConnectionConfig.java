@@ -78,6 +78,7 @@ public class SharepointFSConnectionConfig extends BaseFSConnectionConfig {
     private String m_group;
     private SiteMode m_mode;
     private String m_subsite;
+    private String m_credentialIdentity;
 
 
     /**
@@ -151,6 +152,24 @@ public class SharepointFSConnectionConfig extends BaseFSConnectionConfig {
         m_subsite = subsite;
     }
 
+    /**
+     * @return the identity of the credential, used to cache the site ID, may be
+     *         {@code null}
+     */
+    public String getCredentialIdentity() {
+        return m_credentialIdentity;
+    }
+
+    /**
+     * @param credentialIdentity
+     *            the identity of the credential (see
+     *            {@link org.knime.ext.sharepoint.GraphCredentialUtil#getCredentialIdentity})
+     *            or {@code null} to not cache the site ID
+     */
+    public void setCredentialIdentity(final String credentialIdentity) {
+        m_credentialIdentity = credentialIdentity;
+    }
+
     /**
      * @return the authenticationProvider
      */
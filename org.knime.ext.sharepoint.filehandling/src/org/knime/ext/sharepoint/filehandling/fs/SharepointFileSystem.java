@@ -51,11 +51,15 @@ package org.knime.ext.sharepoint.filehandling.fs;
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.knime.ext.sharepoint.GraphApiUtil;
 import org.knime.ext.sharepoint.SharepointSiteResolver;
@@ -63,6 +67,7 @@ import org.knime.ext.sharepoint.filehandling.FSGraphApiUtil;
 import org.knime.filehandling.core.connections.base.BaseFileSystem;
 
 import com.microsoft.graph.core.ClientException;
+import com.microsoft.graph.http.GraphServiceException;
 import com.microsoft.graph.logger.DefaultLogger;
 import com.microsoft.graph.logger.LoggerLevel;
 import com.microsoft.graph.models.Drive;
@@ -83,9 +88,16 @@ public class SharepointFileSystem extends BaseFileSystem<SharepointPath> {
      */
     public static final String PATH_SEPARATOR = "/";
 
+    private static final String DRIVE_FIELDS = "id,name";
+
     private final GraphServiceClient<Request> m_client;
-    private final String m_siteId;
-    private final Map<String, Drive> m_drives;
+    private final SharepointSiteResolver m_siteResolver;
+    private volatile String m_siteId; // NOSONAR only replaced as a whole
+    private final Map<String, Drive> m_drives = new ConcurrentHashMap<>();
+    private volatile boolean m_allDrivesFetched; // NOSONAR simple flag
+    /** Names of drives which do not exist with the time in nanoseconds until which this is assumed. */
+    private final Map<String, Long> m_missingDrives = new ConcurrentHashMap<>();
+    private final long m_missingDriveTTLNanos;
     private final SharepointFSConnectionConfig m_config;
 
     /**
@@ -97,66 +109,197 @@ public class SharepointFileSystem extends BaseFileSystem<SharepointPath> {
      */
 
     public SharepointFileSystem(final SharepointFSConnectionConfig config, final long cacheTTL) throws IOException {
+        this(config, cacheTTL, createClient(config));
+    }
+
+    /**
+     * @param config
+     *            Connection configuration
+     * @param cacheTTL
+     *            The time to live for cached elements in milliseconds.
+     * @param client
+     *            the client used for all requests
+     * @throws IOException
+     */
+    SharepointFileSystem(final SharepointFSConnectionConfig config, final long cacheTTL,
+            final GraphServiceClient<Request> client) throws IOException {
         super(new SharepointFileSystemProvider(), cacheTTL, config.getWorkingDirectory(),
                 SharepointFSDescriptorProvider.FS_LOCATION_SPEC);
 
-        DefaultLogger logger = new DefaultLogger();
-        logger.setLoggingLevel(LoggerLevel.ERROR);
         m_config = config;
+        m_client = client;
+        m_missingDriveTTLNanos = TimeUnit.MILLISECONDS.toNanos(cacheTTL);
         try {
-            int connectionTimeout = Math.toIntExact(m_config.getConnectionTimeOut().toMillis());
-            int readTimeout = Math.toIntExact(m_config.getReadTimeOut().toMillis());
-            m_client = GraphApiUtil.createClient(m_config.getAuthenticationProvider(), connectionTimeout, readTimeout);
-
-            final var siteResolver = new SharepointSiteResolver(m_client, m_config.getMode(), m_config.getSubsite(),
-                    m_config.getWebURL(), m_config.getGroup());
-            m_siteId = siteResolver.getTargetSiteId();
+            // drives are resolved lazily, a site ID from the cache of the resolver is
+            // validated by the first request to the site
+            m_siteResolver = new SharepointSiteResolver(m_client, m_config.getCredentialIdentity(),
+                    m_config.getMode(), m_config.getSubsite(), m_config.getWebURL(), m_config.getGroup());
+            m_siteId = m_siteResolver.getTargetSiteId();
         } catch (ClientException ex) {
             throw FSGraphApiUtil.unwrapClientEx(ex);
         }
-
-        m_drives = new HashMap<>();
-        fetchDrives();
     }
 
-    private void fetchDrives() throws IOException {
+    private static GraphServiceClient<Request> createClient(final SharepointFSConnectionConfig config)
+            throws IOException {
+        DefaultLogger logger = new DefaultLogger();
+        logger.setLoggingLevel(LoggerLevel.ERROR);
         try {
-            DriveCollectionPage result = m_client.sites(m_siteId).drives().buildRequest().get();
-            storeDrives(result.getCurrentPage());
+            int connectionTimeout = Math.toIntExact(config.getConnectionTimeOut().toMillis());
+            int readTimeout = Math.toIntExact(config.getReadTimeOut().toMillis());
+            return GraphApiUtil.createClient(config.getAuthenticationProvider(), connectionTimeout, readTimeout);
+        } catch (ClientException ex) {
+            throw FSGraphApiUtil.unwrapClientEx(ex);
+        }
+    }
 
-            while (result.getNextPage() != null) {
-                result = result.getNextPage().buildRequest().get();
-                storeDrives(result.getCurrentPage());
+    /**
+     * Sends a request to the site. If the site could not be found, the site ID is
+     * resolved again and the request is retried once.
+     */
+    private <T> T requestSite(final Function<String, T> request) throws IOException {
+        try {
+            try {
+                return request.apply(m_siteId);
+            } catch (GraphServiceException ex) {
+                if (ex.getResponseCode() != 404) {
+                    throw ex;
+                }
             }
+            m_siteResolver.invalidate();
+            m_siteId = m_siteResolver.getTargetSiteId();
+            return request.apply(m_siteId);
         } catch (ClientException ex) {
             throw FSGraphApiUtil.unwrapClientEx(ex);
         }
     }
 
-    private void storeDrives(final List<Drive> drives) {
+    private void fetchAllDrives() throws IOException {
+        final var drives = requestSite(siteId -> {
+            final var result = new ArrayList<Drive>();
+            DriveCollectionPage page = m_client.sites(siteId).drives().buildRequest().select(DRIVE_FIELDS).get();
+            result.addAll(page.getCurrentPage());
+
+            while (page.getNextPage() != null) {
+                page = page.getNextPage().buildRequest().get();
+                result.addAll(page.getCurrentPage());
+            }
+            return result;
+        });
+
+        final var names = new HashSet<String>();
+        for (Drive drive : drives) {
+            final var name = FSGraphApiUtil.escapeDriveName(drive.name);
+            names.add(name);
+            m_drives.put(name, drive);
+        }
+        m_drives.keySet().retainAll(names);
+        m_missingDrives.keySet().removeAll(names);
+    }
+
+    /**
+     * Looks up a single drive by its name.
+     *
+     * @return the drive or {@code null} if the site has no such drive
+     */
+    private Drive fetchDrive(final String driveName) throws IOException {
+        if (FSGraphApiUtil.isEscapedDriveName(driveName)) {
+            // the original name cannot be restored reliably, list all drives instead
+            fetchAllDrives();
+            return m_drives.get(driveName);
+        }
+
+        final var filter = "name eq '" + driveName.replace("'", "''") + "'";
+        final List<Drive> drives = requestSite(siteId -> {
+            try {
+                return m_client.sites(siteId).drives().buildRequest()//
+                        .filter(filter)//
+                        .select(DRIVE_FIELDS)//
+                        .get()//
+                        .getCurrentPage();
+            } catch (GraphServiceException ex) {
+                if (ex.getResponseCode() == 400) {
+                    // filtering drives is not supported everywhere
+                    return null;
+                }
+                throw ex;
+            }
+        });
+
+        if (drives == null) {
+            fetchAllDrives();
+            return m_drives.get(driveName);
+        }
+
         for (Drive drive : drives) {
-            m_drives.put(FSGraphApiUtil.escapeDriveName(drive.name), drive);
+            if (driveName.equals(FSGraphApiUtil.escapeDriveName(drive.name))) {
+                m_drives.put(driveName, drive);
+                // the drive has been created after the drives were listed
+                m_allDrivesFetched = false;
+                return drive;
+            }
         }
+        return null;
     }
 
     /**
+     * Returns all drives of the site. The drives are listed on the first call, the
+     * result is cached afterwards.
+     *
      * @return the cached drives list for a current site.
+     * @throws IOException
+     *             if the drives could not be listed
      */
-    public Collection<Drive> getDrives() {
+    public Collection<Drive> getDrives() throws IOException {
+        if (!m_allDrivesFetched) {
+            synchronized (this) {
+                if (!m_allDrivesFetched) {
+                    fetchAllDrives();
+                    m_allDrivesFetched = true;
+                }
+            }
+        }
         return m_drives.values();
     }
 
     /**
+     * Returns the ID of the drive with the given name. Drives that are not cached
+     * yet are looked up by name. Names of drives that do not exist are remembered
+     * for the time to live of the cache so that repeated lookups, e.g. of names
+     * requiring all drives to be listed, are not sent again.
+     *
      * @param driveName
      *            The drive name.
-     * @return The driveId for a given drive.
+     * @return The driveId for a given drive or {@code null} if there is no such
+     *         drive.
+     * @throws IOException
+     *             if the drive could not be looked up
      */
-    public String getDriveId(final String driveName) {
-        Drive drive = m_drives.get(driveName);
-        if (drive != null) {
-            return drive.id;
+    public String getDriveId(final String driveName) throws IOException {
+        if (driveName == null) {
+            return null;
         }
-        return null;
+        var drive = m_drives.get(driveName);
+        if (drive == null && !isKnownMissing(driveName)) {
+            drive = fetchDrive(driveName);
+            if (drive == null) {
+                final var now = System.nanoTime();
+                m_missingDrives.values().removeIf(until -> until - now <= 0);
+                m_missingDrives.put(driveName, now + m_missingDriveTTLNanos);
+            }
+        }
+        return drive != null ? drive.id : null;
+    }
+
+    private boolean isKnownMissing(final String driveName) {
+        final var until = m_missingDrives.get(driveName);
+        if (until == null) {
+            return false;
+        } else if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        m_missingDrives.remove(driveName, until);
+        return false;
     }
 
     /**
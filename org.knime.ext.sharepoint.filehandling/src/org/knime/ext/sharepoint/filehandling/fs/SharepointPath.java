@@ -111,9 +111,11 @@ public class SharepointPath extends UnixStylePath {
 
     /**
      * @return The driveId for a current path. May be null.
+     * @throws IOException
+     *             if the drive could not be looked up
      */
     @SuppressWarnings("resource")
-    public String getDriveId() {
+    public String getDriveId() throws IOException {
         return getFileSystem().getDriveId(getDriveName());
     }
 
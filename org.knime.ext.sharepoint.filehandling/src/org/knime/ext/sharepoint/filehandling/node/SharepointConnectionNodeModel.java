@@ -98,6 +98,7 @@ final class SharepointConnectionNodeModel extends WebUINodeModel<SharepointConne
         final var credSpec = ((CredentialPortObject) inObjects[0]).getSpec();
         final var fsConfig = params
                 .toFSConnectionConfig(GraphCredentialUtil.createAuthenticationProvider(credSpec));
+        fsConfig.setCredentialIdentity(GraphCredentialUtil.getCredentialIdentity(credSpec).orElse(null));
 
         m_fsConnection = new SharepointFSConnection(fsConfig);
         FSConnectionRegistry.getInstance().register(m_fsId, m_fsConnection);
@@ -191,7 +191,9 @@ final class SharepointConnectionNodeParameters implements NodeParameters {
                     params.m_workingDirectory = workingDir;
 
                     params.validate();
-                    return new SharepointFSConnection(params.toFSConnectionConfig(authProvider));
+                    final var fsConfig = params.toFSConnectionConfig(authProvider);
+                    fsConfig.setCredentialIdentity(GraphCredentialUtil.getCredentialIdentity(credSpec).orElse(null));
+                    return new SharepointFSConnection(fsConfig);
                 } catch (NoSuchCredentialException | IOException ex) {
                     throw ExceptionUtil.wrapAsIOException(ex);
                 }
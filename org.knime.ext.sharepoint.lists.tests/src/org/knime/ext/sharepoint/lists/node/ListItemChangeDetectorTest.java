@@ -0,0 +1,142 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint.lists.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.util.Pair;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+import com.microsoft.graph.models.FieldValueSet;
+
+/**
+ * Tests for {@link ListItemChangeDetector}.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+final class ListItemChangeDetectorTest {
+
+    private static final List<String> FIELDS = List.of("Title", "Amount");
+
+    private static Pair<String, FieldValueSet> update(final String id, final String title, final Number amount) {
+        final var fields = new FieldValueSet();
+        fields.additionalDataManager().put("Title", title == null ? JsonNull.INSTANCE : new JsonPrimitive(title));
+        fields.additionalDataManager().put("Amount",
+                amount == null ? JsonNull.INSTANCE : new JsonPrimitive(amount));
+        return Pair.create(id, fields);
+    }
+
+    private static Map<String, JsonElement> item(final String title, final Number amount) {
+        return Map.of("Title", new JsonPrimitive(title), "Amount", new JsonPrimitive(amount));
+    }
+
+    @Test
+    void testUnchangedRowIsSkipped() {
+        final var detector = new ListItemChangeDetector(FIELDS);
+        final var result = detector.reduceToChanges(List.of(update("1", "a", 5)), Map.of("1", item("a", 5)));
+        assertTrue(result.isEmpty());
+        assertEquals(1, detector.getSkippedRows());
+    }
+
+    @Test
+    void testNumbersAreNormalized() {
+        final var detector = new ListItemChangeDetector(FIELDS);
+        final var result = detector.reduceToChanges(List.of(update("1", "a", 5.0)), Map.of("1", item("a", 5)));
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void testMissingFieldEqualsNull() {
+        final var detector = new ListItemChangeDetector(FIELDS);
+        final var result = detector.reduceToChanges(List.of(update("1", "a", null)),
+                Map.of("1", Map.of("Title", new JsonPrimitive("a"))));
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void testOnlyChangedFieldsAreSent() {
+        final var detector = new ListItemChangeDetector(FIELDS);
+        final var result = detector.reduceToChanges(List.of(update("1", "a", 6), update("2", "b", 7)),
+                Map.of("1", item("a", 5), "2", item("b", 7)));
+        assertEquals(1, result.size());
+        assertEquals("1", result.get(0).getFirst());
+        assertEquals(Map.of("Amount", new JsonPrimitive(6)), result.get(0).getSecond().additionalDataManager());
+        assertEquals(1, detector.getSkippedRows());
+        assertEquals(1, detector.getSkippedFields());
+    }
+
+    @Test
+    void testDuplicateIdIsComparedToPreviousUpdate() {
+        final var detector = new ListItemChangeDetector(FIELDS);
+        // the second update reverts the first one and thus has to be sent as well
+        final var result = detector.reduceToChanges(
+                List.of(update("1", "b", 5), update("1", "a", 5), update("1", "a", 5)),
+                Map.of("1", item("a", 5)));
+        assertEquals(2, result.size());
+        assertEquals(Map.of("Title", new JsonPrimitive("b")), result.get(0).getSecond().additionalDataManager());
+        assertEquals(Map.of("Title", new JsonPrimitive("a")), result.get(1).getSecond().additionalDataManager());
+        // the third update matches the state after the second one
+        assertEquals(1, detector.getSkippedRows());
+    }
+
+    @Test
+    void testUnknownItemIsSentCompletely() {
+        final var detector = new ListItemChangeDetector(FIELDS);
+        final var update = update("1", "a", 5);
+        final var result = detector.reduceToChanges(List.of(update), Map.of());
+        assertEquals(List.of(update), result);
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint.lists.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.microsoft.graph.models.ColumnDefinition;
+import com.microsoft.graph.requests.GraphServiceClient;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Tests for {@link ListMetadataCache}.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+final class ListMetadataCacheTest {
+
+    private static final String IDENTITY = "tenant/user";
+
+    private static final String SITE = "site";
+
+    private static final String DISPLAY_NAME = "List";
+
+    private static final String NAME = "displayName:" + DISPLAY_NAME;
+
+    private final AtomicLong m_time = new AtomicLong();
+
+    private final AtomicInteger m_loads = new AtomicInteger();
+
+    private FakeGraph m_graph;
+
+    private GraphServiceClient<Request> m_client;
+
+    /**
+     * Answers requests for single lists with their ID, display name and eTag.
+     * Lists which do not exist are answered with a 404 response.
+     */
+    private static final class FakeGraph implements Interceptor {
+
+        private static final MediaType JSON = MediaType.get("application/json");
+
+        /** The display names of the existing lists by their ID. */
+        private final Map<String, String> m_lists = new ConcurrentHashMap<>();
+
+        private volatile String m_eTag = "1";
+
+        @Override
+        public Response intercept(final Chain chain) {
+            final var url = chain.request().url();
+            final var segments = url.pathSegments();
+            final var listId = segments.get(segments.size() - 1);
+            final var displayName = m_lists.get(listId);
+            final var found = displayName != null;
+            final var body = found ? "{\"id\":\"" + listId + "\",\"displayName\":\"" + displayName
+                    + "\",\"eTag\":\"" + m_eTag + "\"}"
+                    : "{\"error\":{\"code\":\"itemNotFound\",\"message\":\"List not found\"}}";
+            return new Response.Builder()//
+                    .request(chain.request())//
+                    .protocol(Protocol.HTTP_1_1)//
+                    .code(found ? 200 : 404)//
+                    .message(found ? "OK" : "Not Found")//
+                    .body(ResponseBody.create(body, JSON))//
+                    .build();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        ListMetadataCache.clear();
+        ListMetadataCache.setClock(m_time::get);
+        m_graph = new FakeGraph();
+        m_client = GraphServiceClient.builder()//
+                .httpClient(new OkHttpClient.Builder().addInterceptor(m_graph).build())//
+                .buildClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ListMetadataCache.setClock(System::nanoTime);
+        ListMetadataCache.clear();
+    }
+
+    private Optional<String> getListId(final String identity, final String listId) throws IOException {
+        return ListMetadataCache.getListId(identity, m_client, SITE, NAME, l -> DISPLAY_NAME.equals(l.displayName),
+                () -> {
+                    m_loads.incrementAndGet();
+                    m_graph.m_lists.put(listId, DISPLAY_NAME);
+                    return Optional.of(listId);
+                });
+    }
+
+    private List<ColumnDefinition> getColumns(final String identity) throws IOException {
+        return ListMetadataCache.getColumns(identity, m_client, SITE, "list1", () -> {
+            m_loads.incrementAndGet();
+            final var column = new ColumnDefinition();
+            column.name = "Title";
+            return new ArrayList<>(List.of(column));
+        });
+    }
+
+    private void advance(final long minutes) {
+        m_time.addAndGet(TimeUnit.MINUTES.toNanos(minutes));
+    }
+
+    @Test
+    void testListIdIsCachedPerIdentity() throws IOException {
+        assertEquals("list1", getListId(IDENTITY, "list1").orElseThrow());
+        assertEquals("list1", getListId(IDENTITY, "list2").orElseThrow());
+        assertEquals(1, m_loads.get());
+
+        assertEquals("list2", getListId("tenant/other", "list2").orElseThrow());
+        assertEquals("list3", getListId(null, "list3").orElseThrow());
+        assertEquals(3, m_loads.get());
+    }
+
+    @Test
+    void testListIdExpires() throws IOException {
+        getListId(IDENTITY, "list1");
+        advance(4);
+        assertEquals("list1", getListId(IDENTITY, "list2").orElseThrow());
+        advance(1);
+        assertEquals("list2", getListId(IDENTITY, "list2").orElseThrow());
+        assertEquals(2, m_loads.get());
+    }
+
+    @Test
+    void testDeletedListIsResolvedAgain() throws IOException {
+        getListId(IDENTITY, "list1");
+        // the list has been deleted and created again under the same name
+        m_graph.m_lists.remove("list1");
+        assertEquals("list2", getListId(IDENTITY, "list2").orElseThrow());
+        assertEquals(2, m_loads.get());
+        assertEquals("list2", getListId(IDENTITY, "list3").orElseThrow());
+        assertEquals(2, m_loads.get());
+    }
+
+    @Test
+    void testRenamedListIsResolvedAgain() throws IOException {
+        getListId(IDENTITY, "list1");
+        // the list has been renamed and another list has been created under its old name
+        m_graph.m_lists.put("list1", "Renamed");
+        assertEquals("list2", getListId(IDENTITY, "list2").orElseThrow());
+        assertEquals(2, m_loads.get());
+        assertEquals("list2", getListId(IDENTITY, "list3").orElseThrow());
+        assertEquals(2, m_loads.get());
+    }
+
+    @Test
+    void testMissingListIsNotCached() throws IOException {
+        final ListMetadataCache.Loader<Optional<String>> loader = () -> {
+            m_loads.incrementAndGet();
+            return Optional.empty();
+        };
+        ListMetadataCache.getListId(IDENTITY, m_client, SITE, NAME, l -> true, loader);
+        ListMetadataCache.getListId(IDENTITY, m_client, SITE, NAME, l -> true, loader);
+        assertEquals(2, m_loads.get());
+    }
+
+    @Test
+    void testInvalidateListRemovesListIds() throws IOException {
+        getListId(IDENTITY, "list1");
+        ListMetadataCache.invalidateList(IDENTITY, SITE, null);
+        assertEquals("list2", getListId(IDENTITY, "list2").orElseThrow());
+        assertEquals(2, m_loads.get());
+    }
+
+    @Test
+    void testColumnsAreValidatedByETag() throws IOException {
+        m_graph.m_lists.put("list1", DISPLAY_NAME);
+        getColumns(IDENTITY);
+        getColumns(IDENTITY);
+        assertEquals(1, m_loads.get());
+
+        // after the TTL the unchanged eTag keeps the cached columns
+        advance(5);
+        getColumns(IDENTITY);
+        assertEquals(1, m_loads.get());
+
+        advance(5);
+        m_graph.m_eTag = "2";
+        getColumns(IDENTITY);
+        assertEquals(2, m_loads.get());
+    }
+
+    @Test
+    void testInvalidateListRemovesColumns() throws IOException {
+        m_graph.m_lists.put("list1", DISPLAY_NAME);
+        getColumns(IDENTITY);
+        ListMetadataCache.invalidateList(IDENTITY, SITE, "list1");
+        getColumns(IDENTITY);
+        assertEquals(2, m_loads.get());
+    }
+
+    @Test
+    void testColumnsAreUnmodifiable() throws IOException {
+        m_graph.m_lists.put("list1", DISPLAY_NAME);
+        final var column = new ColumnDefinition();
+        assertThrows(UnsupportedOperationException.class, () -> getColumns(IDENTITY).add(column));
+        // the cached columns
+        assertThrows(UnsupportedOperationException.class, () -> getColumns(IDENTITY).add(column));
+        assertThrows(UnsupportedOperationException.class, () -> getColumns(null).add(column));
+        assertEquals(1, getColumns(IDENTITY).size());
+    }
+}
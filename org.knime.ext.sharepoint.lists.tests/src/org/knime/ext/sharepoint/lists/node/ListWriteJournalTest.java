@@ -0,0 +1,205 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint.lists.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests for {@link ListWriteJournal}.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+final class ListWriteJournalTest {
+
+    private static final String SITE = "site";
+
+    private static final String LIST = "list";
+
+    private static final DataTableSpec SPEC = new DataTableSpec(new String[] { "column1" },
+            new DataType[] { StringCell.TYPE });
+
+    private static DataRow row(final long index, final String value) {
+        return new DefaultRow("Row" + index, new StringCell(value));
+    }
+
+    /**
+     * Sends the given rows and returns the fingerprint of all of them.
+     */
+    private static long send(final ListWriteJournal journal, final DataRow... rows) {
+        var fingerprint = ListWriteJournal.INITIAL_FINGERPRINT;
+        for (var i = 0; i < rows.length; i++) {
+            fingerprint = ListWriteJournal.fingerprint(fingerprint, rows[i]);
+            journal.sent(i, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    private static long fingerprint(final DataRow... rows) {
+        var fingerprint = ListWriteJournal.INITIAL_FINGERPRINT;
+        for (final var row : rows) {
+            fingerprint = ListWriteJournal.fingerprint(fingerprint, row);
+        }
+        return fingerprint;
+    }
+
+    @Test
+    void testRangesAreMerged() {
+        final var journal = new ListWriteJournal();
+        journal.start(SITE, LIST, SPEC);
+        journal.acknowledge(0, 10);
+        journal.acknowledge(2, 12);
+        journal.acknowledge(3, 13);
+        assertEquals(3, journal.getAcknowledgedRows());
+        assertNull(journal.getItemId(1));
+        assertEquals("13", journal.getItemId(3));
+
+        // filling the gap merges all rows into one range
+        journal.acknowledge(1, 11);
+        assertEquals(4, journal.getAcknowledgedRows());
+        assertEquals("11", journal.getItemId(1));
+        assertEquals(4, journal.getFirstUnacknowledgedRow());
+
+        // duplicate acknowledgements are ignored
+        journal.acknowledge(2, 12);
+        assertEquals(4, journal.getAcknowledgedRows());
+    }
+
+    @Test
+    void testNonConsecutiveItemIdsStartNewRange() {
+        final var journal = new ListWriteJournal();
+        journal.start(SITE, LIST, SPEC);
+        journal.acknowledge(0, 10);
+        journal.acknowledge(1, 20);
+        assertEquals("10", journal.getItemId(0));
+        assertEquals("20", journal.getItemId(1));
+        assertEquals(2, journal.getFirstUnacknowledgedRow());
+        assertNull(journal.getItemId(2));
+    }
+
+    @Test
+    void testFirstUnacknowledgedRow() {
+        final var journal = new ListWriteJournal();
+        journal.start(SITE, LIST, SPEC);
+        assertEquals(0, journal.getFirstUnacknowledgedRow());
+
+        journal.acknowledge(1, 11);
+        assertEquals(0, journal.getFirstUnacknowledgedRow());
+
+        journal.acknowledge(0, 10);
+        journal.acknowledge(3, 13);
+        assertEquals(2, journal.getFirstUnacknowledgedRow());
+    }
+
+    @Test
+    void testResumeWithSameData() {
+        final var rows = new DataRow[] { row(0, "a"), row(1, "b"), row(2, "c") };
+        final var journal = new ListWriteJournal();
+        journal.start(SITE, LIST, SPEC);
+        send(journal, rows);
+        journal.acknowledge(0, 10);
+        journal.acknowledge(1, 11);
+
+        assertTrue(journal.canResume(SITE, LIST, SPEC));
+        assertTrue(journal.matchesPrefix(2, fingerprint(rows[0], rows[1])));
+        assertFalse(journal.canResume(SITE, "other", SPEC));
+
+        // rows after the resume point get sent again
+        journal.resume();
+        journal.sent(2, fingerprint(rows));
+    }
+
+    @Test
+    void testResumeRejectedIfDataChanged() {
+        final var journal = new ListWriteJournal();
+        journal.start(SITE, LIST, SPEC);
+        send(journal, row(0, "a"), row(1, "b"), row(2, "c"));
+        journal.acknowledge(0, 10);
+        journal.acknowledge(1, 11);
+
+        assertTrue(journal.canResume(SITE, LIST, SPEC));
+        // different cell value
+        assertFalse(journal.matchesPrefix(2, fingerprint(row(0, "a"), row(1, "x"))));
+        // different row key
+        assertFalse(journal.matchesPrefix(2,
+                fingerprint(row(0, "a"), new DefaultRow("Other", new StringCell("b")))));
+        // different order
+        assertFalse(journal.matchesPrefix(2, fingerprint(row(1, "b"), row(0, "a"))));
+        // input shorter than the acknowledged rows
+        assertFalse(journal.matchesPrefix(1, fingerprint(row(0, "a"))));
+    }
+
+    @Test
+    void testFingerprintDistinguishesMissingValues() {
+        final var missing = new DefaultRow("Row0", DataType.getMissingCell());
+        final var questionMark = new DefaultRow("Row0", new StringCell("?"));
+        assertNotEquals(fingerprint(missing), fingerprint(questionMark));
+    }
+
+    @Test
+    void testClear() {
+        final var journal = new ListWriteJournal();
+        journal.start(SITE, LIST, SPEC);
+        send(journal, row(0, "a"));
+        journal.acknowledge(0, 10);
+        journal.clear();
+        assertFalse(journal.canResume(SITE, LIST, SPEC));
+        assertEquals(0, journal.getAcknowledgedRows());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-19 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint.lists.node.reader.framework;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.knime.ext.sharepoint.lists.node.reader.framework.SharepointListClient.IdRange;
+
+import com.microsoft.graph.options.Option;
+import com.microsoft.graph.options.QueryOption;
+
+/**
+ * Tests the splitting of the item IDs of {@link SharepointListClient} into
+ * partitions.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+final class SharepointListClientTest {
+
+    private static final List<Option> OPTIONS = List.of(new QueryOption("expand", "fields"));
+
+    private static List<String> filters(final List<List<Option>> partitions) {
+        return partitions.stream()//
+                .map(options -> options.stream()//
+                        .filter(o -> "filter".equals(o.getName()))//
+                        .map(o -> (String) o.getValue())//
+                        .collect(Collectors.joining()))//
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testSmallListIsNotSplit() {
+        final var partitions = SharepointListClient.createPartitionOptions(OPTIONS, new IdRange(1, 200), 4);
+        assertEquals(1, partitions.size());
+        assertSame(OPTIONS, partitions.get(0));
+    }
+
+    @Test
+    void testRangeIsSplitIntoAdjacentPartitions() {
+        final var partitions = SharepointListClient.createPartitionOptions(OPTIONS, new IdRange(1, 1000), 4);
+        assertEquals(List.of(//
+                "fields/ID ge 1 and fields/ID lt 251", //
+                "fields/ID ge 251 and fields/ID lt 501", //
+                "fields/ID ge 501 and fields/ID lt 751", //
+                "fields/ID ge 751"), filters(partitions));
+        // the other options are kept
+        partitions.forEach(p -> assertEquals("fields", p.get(0).getValue()));
+    }
+
+    @Test
+    void testPartitionsHaveAMinimumSize() {
+        final var partitions = SharepointListClient.createPartitionOptions(OPTIONS, new IdRange(100, 549), 8);
+        assertEquals(List.of(//
+                "fields/ID ge 100 and fields/ID lt 250", //
+                "fields/ID ge 250 and fields/ID lt 400", //
+                "fields/ID ge 400"), filters(partitions));
+    }
+
+    @Test
+    void testUserFilterIsCombined() {
+        final List<Option> options = List.of(new QueryOption("filter", "fields/Title eq 'a'"));
+        final var partitions = SharepointListClient.createPartitionOptions(options, new IdRange(1, 400), 2);
+        assertEquals(List.of(//
+                "(fields/Title eq 'a') and fields/ID ge 1 and fields/ID lt 201", //
+                "(fields/Title eq 'a') and fields/ID ge 201"), filters(partitions));
+        partitions.forEach(p -> assertEquals(1, p.size()));
+    }
+}
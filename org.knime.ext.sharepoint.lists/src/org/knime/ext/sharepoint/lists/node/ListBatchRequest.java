@@ -55,6 +55,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ObjLongConsumer;
 import java.util.stream.StreamSupport;
 
 import org.knime.core.node.CanceledExecutionException;
@@ -91,6 +92,8 @@ final class ListBatchRequest implements AutoCloseable {
 
     private static final int MAX_REQUESTS = 20; // https://learn.microsoft.com/en-us/graph/json-batching,
                                                 // limit is 20 requests.
+    /** Tag of requests which are not tagged */
+    private static final long NO_TAG = -1;
     private static final JsonObject CONTENT_TYPE_CACHE;
     private static final String[] ID_CACHE;
     private static final JsonArray[] DEPENDS_ON_CACHE;
@@ -131,10 +134,16 @@ final class ListBatchRequest implements AutoCloseable {
     private JsonObject m_body;
     private JsonArray m_requests;
     private List<String> m_contexts;
+    private List<Long> m_tags;
+    private List<Boolean> m_notFoundAllowed;
+    private ObjLongConsumer<JsonObject> m_successListener;
     private boolean m_errored;
 
     private long m_currentWait;
 
+    private long m_enqueuedRequests;
+    private long m_completedRequests;
+
     /**
      * Create a new batch request handler
      *
@@ -152,6 +161,8 @@ final class ListBatchRequest implements AutoCloseable {
 
         m_results = new LinkedList<>();
         m_contexts = new LinkedList<>();
+        m_tags = new LinkedList<>();
+        m_notFoundAllowed = new LinkedList<>();
         // The current version of the API requires request URLs to be relative to the
         // API root. We get the length of this root by the finding the first part of the
         // custom request.
@@ -163,12 +174,19 @@ final class ListBatchRequest implements AutoCloseable {
     }
 
     private JsonObject prepareRequest(final IHttpRequest collectionRequest, final HttpMethod method) {
+        return prepareRequest(collectionRequest, method, NO_TAG, false);
+    }
+
+    private JsonObject prepareRequest(final IHttpRequest collectionRequest, final HttpMethod method,
+            final long tag, final boolean notFoundAllowed) {
         if (m_body == null) {
             m_body = new JsonObject();
             m_requests = new JsonArray(MAX_REQUESTS);
             m_body.add("requests", m_requests);
         }
         m_contexts.add(m_exec.getProgressMonitor().getMessage()); // we use the message as context
+        m_tags.add(tag);
+        m_notFoundAllowed.add(notFoundAllowed);
         final var request = new JsonObject();
         request.addProperty("id", ID_CACHE[m_requestsAccumulated]);
         request.addProperty("url", getRelativeURL(collectionRequest.getRequestUrl().toString()));
@@ -176,6 +194,38 @@ final class ListBatchRequest implements AutoCloseable {
         return request;
     }
 
+    /**
+     * Enqueue a GET request. GET requests are never sequential as they do not
+     * change anything.
+     *
+     * @param httpRequest
+     *            the request to enqueue
+     * @throws IOException
+     *             if the batch requests or one of its sub-requests encountered an
+     *             error that could not be retried while sending.
+     * @throws CanceledExecutionException
+     *             if the execution was canceled while sending.
+     */
+    public void get(final IHttpRequest httpRequest) throws IOException, CanceledExecutionException {
+        postpareRequest(false, prepareRequest(httpRequest, HttpMethod.GET));
+    }
+
+    /**
+     * Enqueue a GET request for a resource which may not exist. A 404 response is
+     * returned like a successful one instead of failing the batch.
+     *
+     * @param httpRequest
+     *            the request to enqueue
+     * @throws IOException
+     *             if the batch requests or one of its sub-requests encountered an
+     *             error that could not be retried while sending.
+     * @throws CanceledExecutionException
+     *             if the execution was canceled while sending.
+     */
+    public void getIfExists(final IHttpRequest httpRequest) throws IOException, CanceledExecutionException {
+        postpareRequest(false, prepareRequest(httpRequest, HttpMethod.GET, NO_TAG, true));
+    }
+
     /**
      * Enqueue a DELETE request.
      *
@@ -211,7 +261,31 @@ final class ListBatchRequest implements AutoCloseable {
      */
     public void post(final IHttpRequest httpRequest, final Entity entity, final boolean sequential)
             throws IOException, CanceledExecutionException {
-        final var request = prepareRequest(httpRequest, HttpMethod.POST);
+        post(httpRequest, entity, sequential, NO_TAG);
+    }
+
+    /**
+     * Enqueue a POST request with a tag which is passed to the success listener
+     * once the request completed successfully.
+     *
+     * @param httpRequest
+     *            the request to enqueue
+     * @param entity
+     *            the entity to post
+     * @param sequential
+     *            whether this request should be sequential
+     * @param tag
+     *            a non-negative tag identifying the request
+     * @throws IOException
+     *             if the batch requests or one of its sub-requests encountered an
+     *             error that could not be retried while sending.
+     * @throws CanceledExecutionException
+     *             if the execution was canceled while sending.
+     * @see #setSuccessListener(ObjLongConsumer)
+     */
+    public void post(final IHttpRequest httpRequest, final Entity entity, final boolean sequential, final long tag)
+            throws IOException, CanceledExecutionException {
+        final var request = prepareRequest(httpRequest, HttpMethod.POST, tag, false);
         request.add("body", JsonParser.parseString(m_serializer.serializeObject(entity)));
         request.add(HEADERS_FIELD, CONTENT_TYPE_CACHE);
         postpareRequest(sequential, request);
@@ -247,6 +321,7 @@ final class ListBatchRequest implements AutoCloseable {
         }
         m_requests.add(request);
         m_requestsAccumulated++;
+        m_enqueuedRequests++;
         if (m_requestsAccumulated >= MAX_REQUESTS) {
             sendRequest();
         }
@@ -262,6 +337,7 @@ final class ListBatchRequest implements AutoCloseable {
             final var results = sendAndCollect(retryableErrors);
             if (results.size() > 0) {
                 m_results.add(results);
+                m_completedRequests += results.size();
                 return;
             } else {
                 final var wait = Math.max(time - m_currentWait, 0);
@@ -328,7 +404,11 @@ final class ListBatchRequest implements AutoCloseable {
     private void handleResponse(final JsonArray result, final List<String> nonRetryableErrors,
             final List<String> retryableErrors, final int responseIndex, final JsonObject response) {
         final var status = response.get("status").getAsInt();
-        switch (ResponseStatus.getFromStatusCode(status)) {
+        var responseStatus = ResponseStatus.getFromStatusCode(status);
+        if (status == 404 && m_notFoundAllowed.get(responseIndex)) { // NOSONAR: max MAX_REQUESTS (20)
+            responseStatus = ResponseStatus.SUCCESS;
+        }
+        switch (responseStatus) {
         case SERVICE_UNAVAILABLE:
             // fallthrough
         case THROTTLED:
@@ -356,6 +436,11 @@ final class ListBatchRequest implements AutoCloseable {
             result.add(response);
             m_requests.remove(responseIndex);
             m_contexts.remove(responseIndex);
+            m_notFoundAllowed.remove(responseIndex);
+            final long tag = m_tags.remove(responseIndex);
+            if (m_successListener != null && tag != NO_TAG && status < 300) {
+                m_successListener.accept(response, tag);
+            }
             break;
         default:
             throw new IllegalStateException("Unexpected reponse!");
@@ -445,6 +530,32 @@ final class ListBatchRequest implements AutoCloseable {
         return ID_CACHE[m_requestsAccumulated];
     }
 
+    /**
+     * Sets the listener which is called with the response and the tag of each
+     * successfully completed tagged request.
+     *
+     * @param listener
+     *            the listener; may be {@code null}
+     */
+    public void setSuccessListener(final ObjLongConsumer<JsonObject> listener) {
+        m_successListener = listener;
+    }
+
+    /**
+     * @return the total number of requests enqueued so far.
+     */
+    public long getEnqueuedRequestCount() {
+        return m_enqueuedRequests;
+    }
+
+    /**
+     * @return the total number of requests which were successfully completed so
+     *         far.
+     */
+    public long getCompletedRequestCount() {
+        return m_completedRequests;
+    }
+
     /**
      * Tries to complete any unsuccessful or unsent requests in the current batch
      * and returns all batch results since the last invocation of this method.
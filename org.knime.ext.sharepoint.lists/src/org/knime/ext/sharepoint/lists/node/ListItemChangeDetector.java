@@ -0,0 +1,287 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint.lists.node;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.util.Pair;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.graph.models.FieldValueSet;
+import com.microsoft.graph.options.Option;
+import com.microsoft.graph.options.QueryOption;
+import com.microsoft.graph.requests.GraphServiceClient;
+import com.microsoft.graph.requests.ListRequestBuilder;
+
+import okhttp3.Request;
+
+/**
+ * Reduces list item updates to the fields which actually changed. The current
+ * field values of the targeted items are fetched in bulk via
+ * {@link ListBatchRequest} and fingerprinted per field. Rows whose fields all
+ * match the ones of the update are skipped entirely, otherwise only the fields
+ * with differing fingerprints are kept. Items which do not exist are treated as
+ * changed. If an item is updated several times, each update is compared to the
+ * state left by the previous one.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+final class ListItemChangeDetector implements AutoCloseable {
+
+    /**
+     * Number of updates to collect before their items are fetched. This is a
+     * multiple of the batch size so that no half-filled batch is sent.
+     */
+    static final int CHUNK_SIZE = 100;
+
+    private static final HashFunction HASH = Hashing.murmur3_128();
+
+    /** Fingerprint of a missing or {@code null} value. */
+    private static final long NULL_HASH = 0L;
+
+    private final Supplier<ListRequestBuilder> m_listRequestBuilder;
+
+    private final ListBatchRequest m_fetchBatch;
+
+    private final String[] m_fieldNames;
+
+    private final List<Option> m_fetchOptions;
+
+    private long m_skippedRows;
+
+    private long m_skippedFields;
+
+    /**
+     * Creates a new change detector.
+     *
+     * @param client
+     *            the client used to fetch the items
+     * @param exec
+     *            the {@link ExecutionContext} to set the messages
+     * @param listRequestBuilder
+     *            supplies the request builder of the updated list
+     * @param fieldNames
+     *            the internal names of all fields which may get updated
+     */
+    ListItemChangeDetector(final GraphServiceClient<Request> client, final ExecutionContext exec,
+            final Supplier<ListRequestBuilder> listRequestBuilder, final Collection<String> fieldNames) {
+        this(new ListBatchRequest(client, exec), listRequestBuilder, fieldNames);
+    }
+
+    /**
+     * Creates a new change detector which cannot fetch items by itself. The
+     * current values have to be passed to {@link #reduceToChanges(List, Map)}.
+     *
+     * @param fieldNames
+     *            the internal names of all fields which may get updated
+     */
+    ListItemChangeDetector(final Collection<String> fieldNames) {
+        this(null, null, fieldNames);
+    }
+
+    private ListItemChangeDetector(final ListBatchRequest fetchBatch,
+            final Supplier<ListRequestBuilder> listRequestBuilder, final Collection<String> fieldNames) {
+        m_listRequestBuilder = listRequestBuilder;
+        m_fetchBatch = fetchBatch;
+        m_fieldNames = fieldNames.toArray(String[]::new);
+        m_fetchOptions = List.of(new QueryOption("select", "id"), //
+                new QueryOption("expand", "fields(select=" + String.join(",", m_fieldNames) + ")"));
+    }
+
+    /**
+     * Fetches the current state of the items targeted by the given updates and
+     * removes all unchanged fields from them.
+     *
+     * @param updates
+     *            pairs of item ID and the fields to set
+     * @return the reduced updates in the same order; items without any changes are
+     *         omitted
+     * @throws IOException
+     *             if the items could not be fetched
+     * @throws CanceledExecutionException
+     *             if the execution was canceled
+     */
+    List<Pair<String, FieldValueSet>> reduceToChanges(final List<Pair<String, FieldValueSet>> updates)
+            throws IOException, CanceledExecutionException {
+        return reduceToChanges(updates, fetchValues(updates));
+    }
+
+    /**
+     * Removes all unchanged fields from the given updates.
+     *
+     * @param updates
+     *            pairs of item ID and the fields to set
+     * @param current
+     *            the current field values per item ID
+     * @return the reduced updates in the same order; items without any changes are
+     *         omitted
+     */
+    List<Pair<String, FieldValueSet>> reduceToChanges(final List<Pair<String, FieldValueSet>> updates,
+            final Map<String, Map<String, JsonElement>> current) {
+        final var state = new HashMap<String, long[]>();
+        current.forEach((id, values) -> state.put(id, fingerprint(values)));
+
+        final var result = new LinkedList<Pair<String, FieldValueSet>>();
+        for (final var update : updates) {
+            final var existing = state.get(update.getFirst());
+            if (existing == null) {
+                // the item could not be fetched, e.g. because it has been deleted meanwhile; send
+                // everything so that the update itself decides how to handle the item
+                result.add(update);
+                continue;
+            }
+            final var values = update.getSecond().additionalDataManager();
+            final var reduced = new FieldValueSet();
+            var skippedFields = 0;
+            for (var i = 0; i < m_fieldNames.length; i++) {
+                final var name = m_fieldNames[i];
+                if (!values.containsKey(name)) {
+                    continue;
+                }
+                final var target = hash(values.get(name));
+                if (existing[i] == target) {
+                    skippedFields++;
+                } else {
+                    reduced.additionalDataManager().put(name, values.get(name));
+                    // later updates of the same item have to be compared to this value
+                    existing[i] = target;
+                }
+            }
+            if (reduced.additionalDataManager().isEmpty()) {
+                m_skippedRows++;
+            } else {
+                m_skippedFields += skippedFields;
+                result.add(Pair.create(update.getFirst(), reduced));
+            }
+        }
+        return result;
+    }
+
+    private Map<String, Map<String, JsonElement>> fetchValues(final List<Pair<String, FieldValueSet>> updates)
+            throws IOException, CanceledExecutionException {
+        for (final var id : updates.stream().map(Pair::getFirst).distinct().toList()) {
+            m_fetchBatch.getIfExists(m_listRequestBuilder.get().items(id).buildRequest(m_fetchOptions));
+        }
+        final var result = new HashMap<String, Map<String, JsonElement>>();
+        for (final var batchRequest : m_fetchBatch.tryCompleteAllCurrentRequests()) {
+            for (final var response : batchRequest.getAsJsonArray()) {
+                if (response.getAsJsonObject().get("status").getAsInt() == 404) {
+                    // missing items are treated as changed
+                    continue;
+                }
+                final var body = response.getAsJsonObject().getAsJsonObject("body");
+                final var fields = body.has("fields") ? body.getAsJsonObject("fields") : new JsonObject();
+                result.put(body.get("id").getAsString(), fields.asMap());
+            }
+        }
+        return result;
+    }
+
+    private long[] fingerprint(final Map<String, JsonElement> values) {
+        final var fields = new long[m_fieldNames.length];
+        for (var i = 0; i < m_fieldNames.length; i++) {
+            // SharePoint omits empty fields, so a missing entry is the same as null
+            fields[i] = hash(values.get(m_fieldNames[i]));
+        }
+        return fields;
+    }
+
+    /**
+     * Hashes a normalized representation of the given value. Numbers are
+     * normalized so that e.g. {@code 5} and {@code 5.0} are considered equal.
+     */
+    private static long hash(final JsonElement value) {
+        if (value == null || value.isJsonNull()) {
+            return NULL_HASH;
+        }
+        final String normalized;
+        if (value.isJsonPrimitive() && value.getAsJsonPrimitive().isNumber()) {
+            normalized = new BigDecimal(value.getAsString()).stripTrailingZeros().toPlainString();
+        } else if (value.isJsonPrimitive()) {
+            normalized = value.getAsString();
+        } else {
+            normalized = value.toString();
+        }
+        return HASH.hashString(normalized, StandardCharsets.UTF_8).asLong();
+    }
+
+    /**
+     * @return the number of rows which were skipped because nothing changed
+     */
+    long getSkippedRows() {
+        return m_skippedRows;
+    }
+
+    /**
+     * @return the number of fields which were not sent because they did not change
+     */
+    long getSkippedFields() {
+        return m_skippedFields;
+    }
+
+    @Override
+    public void close() throws IOException, CanceledExecutionException {
+        if (m_fetchBatch != null) {
+            m_fetchBatch.close();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-19 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint.lists.node;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Process-wide metrics of the locks guarding list overwrites, e.g. to find out
+ * whether concurrent overwrites of the same list serialize each other. The
+ * metrics are registered as MBean {@value #OBJECT_NAME}.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+public final class ListLockMetrics implements ListLockMetricsMXBean {
+
+    private static final NodeLogger LOG = NodeLogger.getLogger(ListLockMetrics.class);
+
+    /**
+     * The name under which the metrics are registered with JMX.
+     */
+    public static final String OBJECT_NAME = "org.knime.ext.sharepoint.lists:type=ListLockMetrics";
+
+    private static final ListLockMetrics INSTANCE = new ListLockMetrics();
+
+    static {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        } catch (JMException | SecurityException e) { // NOSONAR metrics are optional
+            LOG.debug("Could not register list lock metrics with JMX: " + e.getMessage(), e);
+        }
+    }
+
+    private final LongAdder m_acquisitions = new LongAdder();
+
+    private final LongAdder m_contendedAcquisitions = new LongAdder();
+
+    private final LongAdder m_canceledWaits = new LongAdder();
+
+    private final LongAdder m_waitNanos = new LongAdder();
+
+    private final LongAccumulator m_maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    private ListLockMetrics() {
+    }
+
+    /**
+     * @return the process-wide metrics
+     */
+    public static ListLockMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records a lock that was acquired without waiting.
+     */
+    void recordUncontended() {
+        m_acquisitions.increment();
+    }
+
+    /**
+     * Records a lock that was acquired after waiting for another overwrite.
+     *
+     * @param nanos
+     *            the time waited for the lock
+     */
+    void recordContended(final long nanos) {
+        m_acquisitions.increment();
+        m_contendedAcquisitions.increment();
+        m_waitNanos.add(nanos);
+        m_maxWaitNanos.accumulate(nanos);
+    }
+
+    /**
+     * Records a wait for a lock that was ended by a cancellation.
+     *
+     * @param nanos
+     *            the time waited until the cancellation
+     */
+    void recordCanceled(final long nanos) {
+        m_canceledWaits.increment();
+        m_waitNanos.add(nanos);
+        m_maxWaitNanos.accumulate(nanos);
+    }
+
+    @Override
+    public long getAcquisitions() {
+        return m_acquisitions.sum();
+    }
+
+    @Override
+    public long getContendedAcquisitions() {
+        return m_contendedAcquisitions.sum();
+    }
+
+    @Override
+    public long getCanceledWaits() {
+        return m_canceledWaits.sum();
+    }
+
+    @Override
+    public long getTotalWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(m_waitNanos.sum());
+    }
+
+    @Override
+    public double getMeanWaitMillis() {
+        final var count = m_acquisitions.sum() + m_canceledWaits.sum();
+        return count == 0 ? 0 : (m_waitNanos.sum() / 1e6) / count;
+    }
+
+    @Override
+    public long getMaxWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(m_maxWaitNanos.get());
+    }
+
+    @Override
+    public void reset() {
+        m_acquisitions.reset();
+        m_contendedAcquisitions.reset();
+        m_canceledWaits.reset();
+        m_waitNanos.reset();
+        m_maxWaitNanos.reset();
+    }
+}
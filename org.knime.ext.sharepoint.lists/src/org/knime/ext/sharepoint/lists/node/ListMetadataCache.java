@@ -0,0 +1,333 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint.lists.node;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import org.knime.core.node.NodeLogger;
+
+import com.microsoft.graph.http.GraphServiceException;
+import com.microsoft.graph.models.ColumnDefinition;
+import com.microsoft.graph.options.QueryOption;
+import com.microsoft.graph.requests.GraphServiceClient;
+
+import okhttp3.Request;
+
+/**
+ * JVM-wide cache of the list IDs and column definitions of SharePoint lists,
+ * so that nodes executed repeatedly (e.g. in loops) do not have to page
+ * through all lists of a site and all columns of a list each time. Entries are
+ * keyed by the credential identity (tenant and principal) and the site, so they
+ * are never shared between different users.
+ * <p>
+ * List IDs are reused for {@value #TTL_MINUTES} minutes, each use is validated by
+ * a small request for the name of the list so that a deleted or renamed list is
+ * resolved again. Column
+ * definitions are reused for the same time and afterwards validated against the
+ * eTag of the list, which changes with its schema, so that they are only
+ * requested again if the list has changed. Returned column definitions are
+ * unmodifiable. Nodes changing the schema of a list must call
+ * {@link #invalidateList(String, String, String)}, as should nodes receiving a
+ * 404 response for a list resolved by the cache.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+public final class ListMetadataCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ListMetadataCache.class);
+
+    private static final long TTL_MINUTES = 5;
+
+    private static final long TTL_NANOS = TimeUnit.MINUTES.toNanos(TTL_MINUTES);
+
+    private static final int MAX_ENTRIES = 1_000;
+
+    private static final String KIND_LIST_ID = "list_id";
+
+    private static final String KIND_COLUMNS = "columns";
+
+    /** The time source of the cache in nanoseconds, replaced by tests. */
+    private static final AtomicReference<LongSupplier> CLOCK = new AtomicReference<>(System::nanoTime);
+
+    private static final Map<Key, Entry> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private record Key(String identity, String siteId, String kind, String name) {
+    }
+
+    private static final class Entry {
+
+        private final Object m_value;
+
+        private final String m_eTag;
+
+        private long m_validatedAt;
+
+        Entry(final Object value, final String eTag) {
+            m_value = value;
+            m_eTag = eTag;
+            m_validatedAt = CLOCK.get().getAsLong();
+        }
+
+        boolean isFresh() {
+            return CLOCK.get().getAsLong() - m_validatedAt < TTL_NANOS;
+        }
+    }
+
+    /**
+     * Loads a value from the Graph API.
+     *
+     * @param <T>
+     *            the type of the value
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+
+        /**
+         * @return the loaded value
+         * @throws IOException
+         *             if the value could not be loaded
+         */
+        T load() throws IOException;
+    }
+
+    private ListMetadataCache() {
+        // hide constructor for Utils class
+    }
+
+    /**
+     * Returns the ID of the list identified by the given name, using the cached ID
+     * if possible. Lists which are not found are not cached. If the list of a
+     * cached ID does not exist anymore or its names do not match anymore, e.g.
+     * because it has been renamed and another list has been created under its old
+     * name, the cached ID is removed and the list ID is resolved again.
+     *
+     * @param identity
+     *            the credential identity or {@code null} to bypass the cache
+     * @param client
+     *            the client used to validate a cached ID
+     * @param siteId
+     *            the ID of the site
+     * @param name
+     *            the name identifying the list including how it is matched (e.g.
+     *            display or internal name)
+     * @param matcher
+     *            tests whether a list, of which only the ID, internal name and
+     *            display name are requested, is still identified by the name
+     * @param loader
+     *            the loader used to resolve the list ID
+     * @return the list ID
+     * @throws IOException
+     *             if the list ID could not be resolved
+     */
+    public static Optional<String> getListId(final String identity, final GraphServiceClient<Request> client,
+            final String siteId, final String name, final Predicate<com.microsoft.graph.models.List> matcher,
+            final Loader<Optional<String>> loader) throws IOException {
+        if (identity == null) {
+            return loader.load();
+        }
+        final var key = new Key(identity, siteId, KIND_LIST_ID, name);
+        final var entry = get(key);
+        if (entry != null && entry.isFresh()) {
+            final var cachedId = (String) entry.m_value;
+            if (matches(client, siteId, cachedId, matcher)) {
+                return Optional.of(cachedId);
+            }
+            LOGGER.debug("The cached list " + cachedId + " does not exist anymore or has been renamed, resolving "
+                    + name + " again");
+            invalidateList(identity, siteId, cachedId);
+        }
+        final var listId = loader.load();
+        listId.ifPresent(id -> put(key, new Entry(id, null)));
+        return listId;
+    }
+
+    /**
+     * Returns the column definitions of a list, using the cached definitions if
+     * they are fresh or the list has not changed.
+     *
+     * @param identity
+     *            the credential identity or {@code null} to bypass the cache
+     * @param client
+     *            the client used to validate cached definitions
+     * @param siteId
+     *            the ID of the site
+     * @param listId
+     *            the ID of the list
+     * @param loader
+     *            the loader requesting all column definitions
+     * @return the unmodifiable column definitions
+     * @throws IOException
+     *             if the definitions could not be loaded
+     */
+    @SuppressWarnings("unchecked")
+    public static List<ColumnDefinition> getColumns(final String identity, final GraphServiceClient<Request> client,
+            final String siteId, final String listId, final Loader<List<ColumnDefinition>> loader)
+            throws IOException {
+        if (identity == null) {
+            return Collections.unmodifiableList(loader.load());
+        }
+        final var key = new Key(identity, siteId, KIND_COLUMNS, listId);
+        final var entry = get(key);
+        if (entry != null && entry.isFresh()) {
+            return (List<ColumnDefinition>) entry.m_value;
+        }
+
+        final var eTag = getETag(client, siteId, listId);
+        if (entry != null && eTag.isPresent() && eTag.get().equals(entry.m_eTag)) {
+            synchronized (CACHE) {
+                entry.m_validatedAt = CLOCK.get().getAsLong();
+            }
+            return (List<ColumnDefinition>) entry.m_value;
+        }
+        final var columns = Collections.unmodifiableList(loader.load());
+        if (eTag.isPresent()) {
+            put(key, new Entry(columns, eTag.get()));
+        }
+        return columns;
+    }
+
+    /**
+     * Removes the cached column definitions of a list and all cached list IDs of
+     * its site. Must be called after a list has been created or deleted or its
+     * columns have been changed.
+     *
+     * @param identity
+     *            the credential identity, if {@code null} nothing happens
+     * @param siteId
+     *            the ID of the site
+     * @param listId
+     *            the ID of the list, may be {@code null} if only the list IDs
+     *            should be removed
+     */
+    public static void invalidateList(final String identity, final String siteId, final String listId) {
+        if (identity == null) {
+            return;
+        }
+        synchronized (CACHE) {
+            CACHE.keySet().removeIf(k -> k.identity().equals(identity) && k.siteId().equals(siteId)
+                    && (KIND_LIST_ID.equals(k.kind()) || Objects.equals(listId, k.name())));
+        }
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public static void clear() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    /**
+     * Replaces the time source of the cache in nanoseconds. Only used by tests.
+     */
+    static void setClock(final LongSupplier clock) {
+        CLOCK.set(clock);
+    }
+
+    private static Entry get(final Key key) {
+        synchronized (CACHE) {
+            return CACHE.get(key);
+        }
+    }
+
+    private static void put(final Key key, final Entry entry) {
+        synchronized (CACHE) {
+            CACHE.put(key, entry);
+        }
+    }
+
+    private static boolean matches(final GraphServiceClient<Request> client, final String siteId,
+            final String listId, final Predicate<com.microsoft.graph.models.List> matcher) {
+        try {
+            final var list = client.sites(siteId).lists(listId)//
+                    .buildRequest(List.of(new QueryOption("select", "id,name,displayName")))//
+                    .get();
+            return list != null && matcher.test(list);
+        } catch (GraphServiceException e) {
+            if (e.getResponseCode() == 404) {
+                return false;
+            }
+            // the request using the list reports the actual error
+            LOGGER.debug("Could not validate the cached list " + listId, e);
+            return true;
+        }
+    }
+
+    private static Optional<String> getETag(final GraphServiceClient<Request> client, final String siteId,
+            final String listId) {
+        try {
+            return Optional.ofNullable(client.sites(siteId).lists(listId)//
+                    .buildRequest(List.of(new QueryOption("select", "eTag")))//
+                    .get().eTag);
+        } catch (GraphServiceException e) {
+            // the loader reports the actual error
+            LOGGER.debug("Could not validate the cached columns of list " + listId, e);
+            return Optional.empty();
+        }
+    }
+
+}
@@ -0,0 +1,302 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint.lists.node;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * Journal of the rows of a list write which were acknowledged by SharePoint.
+ * Acknowledged rows are kept as ranges of row indices together with the IDs of
+ * the list items which were created for them. Since SharePoint assigns
+ * consecutive IDs, a range usually also covers a consecutive range of item IDs.
+ *
+ * <p>
+ * If a write fails or is canceled, the journal can be passed to the next write
+ * of the same table into the same list, which then resumes with the first row
+ * that was not acknowledged.
+ * </p>
+ *
+ * <p>
+ * To detect that the input changed in between, the journal also keeps a
+ * rolling fingerprint of the row keys and cells of every sent row. A write is
+ * only resumed if the fingerprint of the skipped rows of the new input matches
+ * the one of the acknowledged rows.
+ * </p>
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+public final class ListWriteJournal {
+
+    /** Fingerprint of an empty prefix, i.e. before the first row. */
+    static final long INITIAL_FINGERPRINT = 0L;
+
+    private static final HashFunction HASH = Hashing.murmur3_128();
+
+    private final TreeMap<Long, Range> m_ranges = new TreeMap<>();
+
+    /** Fingerprint of the rows up to and including the row at each index. */
+    private long[] m_fingerprints = new long[0];
+
+    private int m_sentRows;
+
+    private String m_siteId;
+
+    private String m_listId;
+
+    private DataTableSpec m_spec;
+
+    /**
+     * Checks whether this journal belongs to a write of a table with the given
+     * spec into the given list and contains any acknowledged rows.
+     *
+     * @param siteId
+     *            the ID of the site
+     * @param listId
+     *            the ID of the list
+     * @param spec
+     *            the spec of the table to write
+     * @return whether the write can be resumed, given that the skipped rows match
+     *         (see {@link #matchesPrefix(long, long)})
+     */
+    synchronized boolean canResume(final String siteId, final String listId, final DataTableSpec spec) {
+        return Objects.equals(m_siteId, siteId) && Objects.equals(m_listId, listId) && Objects.equals(m_spec, spec)
+                && getFirstUnacknowledgedRow() > 0;
+    }
+
+    /**
+     * Checks whether the given fingerprint of the first rows of the input matches
+     * the fingerprint of the acknowledged rows.
+     *
+     * @param rows
+     *            the number of rows of the input which were fingerprinted
+     * @param fingerprint
+     *            the fingerprint of these rows
+     * @return whether the input starts with exactly the acknowledged rows
+     */
+    synchronized boolean matchesPrefix(final long rows, final long fingerprint) {
+        return rows > 0 && rows == getFirstUnacknowledgedRow() && rows <= m_sentRows
+                && m_fingerprints[(int) rows - 1] == fingerprint;
+    }
+
+    /**
+     * Continues the write after the acknowledged rows. The fingerprints of sent
+     * but unacknowledged rows are dropped as these rows are sent again.
+     */
+    synchronized void resume() {
+        m_sentRows = (int) Math.min(m_sentRows, getFirstUnacknowledgedRow());
+    }
+
+    /**
+     * Records that a row was sent.
+     *
+     * @param row
+     *            the index of the row; rows have to be sent in order
+     * @param fingerprint
+     *            the fingerprint of all rows up to and including this one, see
+     *            {@link #fingerprint(long, DataRow)}
+     */
+    synchronized void sent(final long row, final long fingerprint) {
+        if (row != m_sentRows) {
+            throw new IllegalStateException("Rows have to be sent in order.");
+        }
+        if (m_sentRows == m_fingerprints.length) {
+            m_fingerprints = Arrays.copyOf(m_fingerprints, Math.max(1024, m_sentRows * 2));
+        }
+        m_fingerprints[m_sentRows++] = fingerprint;
+    }
+
+    /**
+     * Computes the rolling fingerprint of a sequence of rows.
+     *
+     * @param previous
+     *            the fingerprint of the preceding rows or
+     *            {@link #INITIAL_FINGERPRINT} for the first row
+     * @param row
+     *            the next row
+     * @return the fingerprint of the preceding rows and the given one
+     */
+    static long fingerprint(final long previous, final DataRow row) {
+        final var hasher = HASH.newHasher()//
+                .putLong(previous)//
+                .putString(row.getKey().getString(), StandardCharsets.UTF_8)//
+                .putInt(row.getNumCells());
+        for (final DataCell cell : row) {
+            if (cell.isMissing()) {
+                hasher.putBoolean(false);
+            } else {
+                hasher.putBoolean(true)//
+                        .putString(cell.getType().getName(), StandardCharsets.UTF_8)//
+                        .putString(cell.toString(), StandardCharsets.UTF_8);
+            }
+        }
+        return hasher.hash().asLong();
+    }
+
+    /**
+     * Clears the journal and starts a new write.
+     *
+     * @param siteId
+     *            the ID of the site
+     * @param listId
+     *            the ID of the list
+     * @param spec
+     *            the spec of the table to write
+     */
+    synchronized void start(final String siteId, final String listId, final DataTableSpec spec) {
+        m_siteId = siteId;
+        m_listId = listId;
+        m_spec = spec;
+        m_ranges.clear();
+        m_fingerprints = new long[0];
+        m_sentRows = 0;
+    }
+
+    /**
+     * Clears the journal, e.g. after a write completed successfully.
+     */
+    public synchronized void clear() {
+        start(null, null, null);
+    }
+
+    /**
+     * Records that a row was acknowledged.
+     *
+     * @param row
+     *            the index of the row
+     * @param itemId
+     *            the ID of the list item created for the row
+     */
+    synchronized void acknowledge(final long row, final long itemId) {
+        final var previous = m_ranges.floorEntry(row);
+        if (previous != null && previous.getValue().contains(previous.getKey(), row)) {
+            return;
+        }
+        final Range range;
+        if (previous != null && previous.getValue().canAppend(previous.getKey(), row, itemId)) {
+            range = previous.getValue();
+            range.m_endRow++;
+        } else {
+            range = new Range(row + 1, itemId);
+            m_ranges.put(row, range);
+        }
+        // merge with the following range if they are now adjacent
+        final var next = m_ranges.higherEntry(row);
+        final var start = previous != null && previous.getValue() == range ? previous.getKey() : row;
+        if (next != null && range.canAppend(start, next.getKey(), next.getValue().m_firstItemId)) {
+            range.m_endRow = next.getValue().m_endRow;
+            m_ranges.remove(next.getKey());
+        }
+    }
+
+    /**
+     * @return the index of the first row which was not acknowledged
+     */
+    synchronized long getFirstUnacknowledgedRow() {
+        // adjacent ranges are only merged if their item IDs are consecutive
+        var end = 0L;
+        for (final var entry : m_ranges.entrySet()) {
+            if (entry.getKey() != end) {
+                break;
+            }
+            end = entry.getValue().m_endRow;
+        }
+        return end;
+    }
+
+    /**
+     * @param row
+     *            the index of the row
+     * @return the ID of the list item created for the row or {@code null} if the
+     *         row was not acknowledged
+     */
+    public synchronized String getItemId(final long row) {
+        final var entry = m_ranges.floorEntry(row);
+        if (entry == null || !entry.getValue().contains(entry.getKey(), row)) {
+            return null;
+        }
+        return Long.toString(entry.getValue().m_firstItemId + row - entry.getKey());
+    }
+
+    /**
+     * @return the number of acknowledged rows
+     */
+    public synchronized long getAcknowledgedRows() {
+        return m_ranges.entrySet().stream().mapToLong(e -> e.getValue().m_endRow - e.getKey()).sum();
+    }
+
+    private static final class Range {
+
+        private long m_endRow;
+
+        private final long m_firstItemId;
+
+        private Range(final long endRow, final long firstItemId) {
+            m_endRow = endRow;
+            m_firstItemId = firstItemId;
+        }
+
+        private boolean contains(final long startRow, final long row) {
+            return row >= startRow && row < m_endRow;
+        }
+
+        private boolean canAppend(final long startRow, final long row, final long itemId) {
+            return row == m_endRow && itemId == m_firstItemId + (row - startRow);
+        }
+    }
+}
@@ -49,29 +49,49 @@
 package org.knime.ext.sharepoint.lists.node;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.RowInput;
 import org.knime.core.util.Pair;
+import org.knime.core.util.ThreadUtils;
 import org.knime.credentials.base.CredentialPortObjectSpec;
 import org.knime.credentials.base.NoSuchCredentialException;
 import org.knime.ext.sharepoint.GraphApiUtil;
 import org.knime.ext.sharepoint.GraphCredentialUtil;
+import org.knime.ext.sharepoint.SharepointSiteResolver;
 import org.knime.ext.sharepoint.lists.node.SharepointListParameters.ListMode;
 import org.knime.ext.sharepoint.parameters.SharepointSiteParameters;
 import org.knime.ext.sharepoint.parameters.TimeoutParameters;
@@ -127,7 +147,43 @@ public final class SharepointListChangingClient implements AutoCloseable {
      */
     private static final Set<String> EFFECTIVELY_RO_COLS = Set.of(COL_ATTACHMENTS, COL_CONTENT_TYPE);
 
-    private static final Object LOCK = new Object();
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(SharepointListChangingClient.class);
+
+    /**
+     * Number of locks used to guard overwrites. Overwrites of lists which map to
+     * different stripes can run in parallel.
+     */
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * Fair locks so that waiting overwrites of the same list are served in order.
+     */
+    private static final ReentrantLock[] LOCKS = IntStream.range(0, LOCK_STRIPES) //
+            .mapToObj(i -> new ReentrantLock(true)) //
+            .toArray(ReentrantLock[]::new);
+
+    /** Interval in which a thread waiting for a lock checks for cancellation. */
+    private static final long LOCK_CANCEL_CHECK_MILLIS = 500;
+
+    /**
+     * Interrupts threads waiting for a list lock once their execution is canceled.
+     */
+    private static final ScheduledExecutorService CANCEL_WATCHER = Executors.newSingleThreadScheduledExecutor(r -> {
+        final var thread = new Thread(r, "SharePoint-List-Lock-Cancel-Watcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Maximum page size when fetching list items. Lists with more items than this
+     * are recreated instead of cleared item by item on overwrite, if enabled.
+     */
+    private static final int ITEM_PAGE_SIZE = 5000;
+
+    /** Number of threads deleting the items of a list concurrently. */
+    private static final int DELETE_THREADS = 4;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
 
     private final GraphServiceClient<Request> m_client;
 
@@ -138,13 +194,16 @@ public final class SharepointListChangingClient implements AutoCloseable {
 
     private final TimeoutParameters m_timeoutSettings;
 
-    private final BufferedDataTable m_table;
-
     private final DataTableSpec m_tableSpec;
 
     private final ExecutionContext m_exec;
 
-    private final String m_siteId;
+    private final SharepointSiteResolver m_siteResolver;
+
+    private String m_siteId;
+
+    /** The identity used to share cached list metadata, {@code null} if unknown. */
+    private final String m_identity;
 
     private String m_listId;
 
@@ -156,10 +215,10 @@ public final class SharepointListChangingClient implements AutoCloseable {
 
     private long m_columnsCleared;
 
-    private long m_itemsCleared;
-
     private boolean m_processItemsSequential = true; // change this with toggle later
 
+    private boolean m_recreateListOnOverwrite;
+
     private final boolean m_createMissingList;
 
     /**
@@ -174,8 +233,8 @@ public final class SharepointListChangingClient implements AutoCloseable {
      * @param pushListId
      *            called with the id of a newly created list or the existing list.
      *            Can be used to export the id. May be {@code id}.
-     * @param table
-     *            the input table
+     * @param tableSpec
+     *            the spec of the input table
      * @param credSpec
      *            the credential used to authenticate against the Graph API
      * @param exec
@@ -192,73 +251,183 @@ public final class SharepointListChangingClient implements AutoCloseable {
             final SharepointListParameters listSettings, //
             final TimeoutParameters timeoutSettings, //
             final Consumer<String> pushListId, //
-            final BufferedDataTable table, //
+            final DataTableSpec tableSpec, //
             final CredentialPortObjectSpec credSpec, //
             final ExecutionContext exec) throws IOException, InvalidSettingsException, NoSuchCredentialException {
 
         m_listSettings = listSettings;
         m_timeoutSettings = timeoutSettings;
-        m_table = table;
-        m_tableSpec = m_table.getDataTableSpec();
+        m_tableSpec = tableSpec;
         m_exec = exec;
         m_client = createGraphServiceClient(credSpec);
+        m_identity = GraphCredentialUtil.getCredentialIdentity(credSpec).orElse(null);
         m_pushListId = pushListId;
-        m_siteId = siteSettings.getSiteId(m_client);
+        m_siteResolver = siteSettings.createSiteResolver(m_client, m_identity);
         m_createMissingList = listSettings instanceof SharepointListParameters.WithCreateLists
                 || listSettings instanceof SharepointListParameters.WithCreateListsAndSystemLists;
-        m_listId = getListId();
+        // the cached site ID may be outdated, in which case the list is resolved again
+        m_listId = m_siteResolver.requestSite(siteId -> {
+            m_siteId = siteId;
+            return getListId();
+        });
+    }
+
+    /**
+     * Sets whether a list with more than {@value #ITEM_PAGE_SIZE} items is deleted
+     * and created again on overwrite instead of deleting all of its items. This is
+     * only done if the list is selected by name to be created. Recreating a list
+     * loses everything besides its name, e.g. its ID, permissions and views.
+     *
+     * @param recreate
+     *            whether large lists may be recreated
+     */
+    public void setRecreateListOnOverwrite(final boolean recreate) {
+        m_recreateListOnOverwrite = recreate;
     }
 
     /**
      * Creates / overwrites / appends a SharePoint list from a KNIME Table.
      *
+     * @param table
+     *            the table to write
+     * @param journal
+     *            the journal recording acknowledged rows, used to resume a
+     *            previously interrupted write of the same table; may be
+     *            {@code null}
      * @throws IOException
      *             there was an error accessing the API or settings are determined
      *             invalid by it
      * @throws CanceledExecutionException
      *             execution was cancelled
      */
-    public void writeList() throws IOException, CanceledExecutionException {
+    public void writeList(final BufferedDataTable table, final ListWriteJournal journal)
+            throws IOException, CanceledExecutionException {
+        writeList(new DataTableRowInput(table), table.size(), journal);
+    }
+
+    /**
+     * Creates / overwrites / appends a SharePoint list from the rows of a
+     * {@link RowInput}. The rows are sent as soon as they are available, thus
+     * this can be used for streaming.
+     *
+     * @param input
+     *            the rows to write; will be closed after all rows are consumed
+     * @param noRows
+     *            the number of rows in the input or {@code -1} if unknown
+     * @param journal
+     *            the journal recording acknowledged rows, used to resume a
+     *            previously interrupted write of the same table; may be
+     *            {@code null}
+     * @throws IOException
+     *             there was an error accessing the API or settings are determined
+     *             invalid by it
+     * @throws CanceledExecutionException
+     *             execution was cancelled
+     */
+    public void writeList(final RowInput input, final long noRows, final ListWriteJournal journal)
+            throws IOException, CanceledExecutionException {
         m_exec.setMessage("Writing rows");
         final String[] colNames = m_tableSpec.getColumnNames();
         final var overwritePolicy = m_listSettings.getExistingListPolicy().orElseThrow(() -> new IllegalStateException(
                 "This method can only be called when the list settings allow creating lists."));
 
-        final var colMap = mapColNames(false);
-
-        if (overwritePolicy == ListExistsPolicy.APPEND && !m_listCreated) {
-            checkColumnsForAppend(colMap);
-        }
+        CloseableRowIterator replay = null;
+        try (final var batch = new ListBatchRequest(m_client, m_exec)) {
+            var skip = 0L;
+            var fingerprint = ListWriteJournal.INITIAL_FINGERPRINT;
+            if (journal != null && !m_listCreated && journal.canResume(m_siteId, m_listId, m_tableSpec)) {
+                // the skipped rows are buffered so that they can still be written if the
+                // input changed since the interrupted write
+                final var expected = journal.getFirstUnacknowledgedRow();
+                final var container = m_exec.createDataContainer(m_tableSpec);
+                DataRow row;
+                while (skip < expected && (row = pollRow(input)) != null) {
+                    container.addRowToTable(row);
+                    fingerprint = ListWriteJournal.fingerprint(fingerprint, row);
+                    skip++;
+                }
+                container.close();
+                if (journal.matchesPrefix(skip, fingerprint)) {
+                    m_exec.clearTable(container.getTable());
+                } else {
+                    LOGGER.info("The input changed since the interrupted write, restarting it.");
+                    replay = container.getTable().iterator();
+                    skip = 0;
+                    fingerprint = ListWriteJournal.INITIAL_FINGERPRINT;
+                }
+            }
+            final var resume = skip > 0;
 
-        try (final var batch = new ListBatchRequest(m_client, m_exec); //
-                final var iterator = m_table.iterator()) {
+            var colMap = mapColNames(false);
+            if (overwritePolicy == ListExistsPolicy.APPEND && !m_listCreated && !resume) {
+                checkColumnsForAppend(colMap);
+            }
 
-            if (overwritePolicy == ListExistsPolicy.OVERWRITE && !m_listCreated) {
+            if (overwritePolicy == ListExistsPolicy.OVERWRITE && !m_listCreated && !resume) {
                 prepareOverwrite(batch);
+                // the overwrite may have recreated the columns or the whole list
+                colMap = mapColNames(false);
             }
 
-            long rowNumber = 0;
-            final long noRows = m_table.size();
-            while (iterator.hasNext()) {
-                final var row = iterator.next();
-                // update progress
-                final long rowNumberFinal = rowNumber;
-                m_exec.setProgress(rowNumber / (double) noRows, () -> ("Write row " + rowNumberFinal));
-                m_exec.checkCanceled();
+            if (resume) {
+                LOGGER.infoWithFormat("Resuming interrupted write after %d acknowledged row(s)", skip);
+                journal.resume();
+            } else if (journal != null) {
+                journal.start(m_siteId, m_listId, m_tableSpec);
+            }
+            if (journal != null) {
+                batch.setSuccessListener((response, rowIndex) -> journal.acknowledge(rowIndex,
+                        Long.parseLong(response.getAsJsonObject("body").get("id").getAsString())));
+            }
 
-                createListItem(row, colNames, colMap, batch);
-                rowNumber++;
+            final var progress = new RowProgress(batch, noRows < 0 ? noRows : (noRows - skip), "Writing rows");
+            long rowIndex = skip;
+            DataRow row;
+            while ((row = nextRow(replay, input)) != null) {
+                progress.update();
+                if (journal != null) {
+                    fingerprint = ListWriteJournal.fingerprint(fingerprint, row);
+                    journal.sent(rowIndex, fingerprint);
+                }
+                createListItem(row, rowIndex, colNames, colMap, batch);
+                progress.rowSent();
+                rowIndex++;
             }
+            batch.tryCompleteAllCurrentRequests();
+            progress.update();
+        } finally {
+            if (replay != null) {
+                replay.close();
+            }
+            input.close();
+        }
+    }
+
+    /**
+     * Returns the next row of the replayed rows, if any are left, or of the input.
+     */
+    private DataRow nextRow(final CloseableRowIterator replay, final RowInput input)
+            throws CanceledExecutionException {
+        if (replay != null && replay.hasNext()) {
+            m_exec.checkCanceled();
+            return replay.next();
         }
+        return pollRow(input);
     }
 
     /**
      * Updates a SharePoint list from a KNIME Table.
      *
+     * @param table
+     *            the table containing the new values
      * @param idColumnName
      *            the name of the column in the input table which holds the
      *            identifier used to select list items to edit. If this value is
      *            {@code null} the row ID will be used instead.
+     * @param onlyChangedValues
+     *            whether the current values of the items should be fetched first
+     *            so that only changed fields are sent and unchanged rows are
+     *            skipped
      *
      * @throws IOException
      *             there was an error accessing the API or settings are determined
@@ -266,7 +435,37 @@ public final class SharepointListChangingClient implements AutoCloseable {
      * @throws CanceledExecutionException
      *             execution was cancelled
      */
-    public void updateList(final String idColumnName) throws IOException, CanceledExecutionException {
+    public void updateList(final BufferedDataTable table, final String idColumnName,
+            final boolean onlyChangedValues) throws IOException, CanceledExecutionException {
+        updateList(new DataTableRowInput(table), table.size(), idColumnName, onlyChangedValues);
+    }
+
+    /**
+     * Updates a SharePoint list from the rows of a {@link RowInput}. The rows are
+     * sent as soon as they are available, thus this can be used for streaming.
+     *
+     * @param input
+     *            the rows containing the new values; will be closed after all
+     *            rows are consumed
+     * @param noRows
+     *            the number of rows in the input or {@code -1} if unknown
+     * @param idColumnName
+     *            the name of the column in the input table which holds the
+     *            identifier used to select list items to edit. If this value is
+     *            {@code null} the row ID will be used instead.
+     * @param onlyChangedValues
+     *            whether the current values of the items should be fetched first
+     *            so that only changed fields are sent and unchanged rows are
+     *            skipped
+     *
+     * @throws IOException
+     *             there was an error accessing the API or settings are determined
+     *             invalid by it
+     * @throws CanceledExecutionException
+     *             execution was cancelled
+     */
+    public void updateList(final RowInput input, final long noRows, final String idColumnName,
+            final boolean onlyChangedValues) throws IOException, CanceledExecutionException {
         m_exec.setMessage("Updating rows");
         final String[] colNames = m_tableSpec.getColumnNames();
         final var idColIdx = m_tableSpec.findColumnIndex(idColumnName);
@@ -274,23 +473,117 @@ public final class SharepointListChangingClient implements AutoCloseable {
         final var colMap = mapColNames(true);
         checkColumnsForUpdate(colMap, idColumnName);
 
-        try (final var batch = new ListBatchRequest(m_client, m_exec); //
-                final var iterator = m_table.iterator()) {
+        final var pending = new ArrayList<Pair<String, FieldValueSet>>(ListItemChangeDetector.CHUNK_SIZE);
+
+        try (final var changeDetector = onlyChangedValues ? createChangeDetector(colNames, idColIdx, colMap) : null;
+                final var batch = new ListBatchRequest(m_client, m_exec)) {
 
+            final var progress = new RowProgress(batch, noRows, "Updating rows");
             long rowNumber = 0;
-            final long noRows = m_table.size();
-            while (iterator.hasNext()) {
-                final var row = iterator.next();
+            DataRow row;
+            while ((row = pollRow(input)) != null) {
                 final var id = getId(row, idColIdx, rowNumber);
-                // update progress
-                final long rowNumberFinal = rowNumber;
-                m_exec.setProgress(rowNumber / (double) noRows,
-                        () -> ("Updating item \"" + id + "\" with row " + rowNumberFinal));
-                m_exec.checkCanceled();
+                progress.update();
 
-                updateListItem(row, colNames, id, idColIdx, colMap, batch);
+                final var fields = createUpdateFields(row, colNames, idColIdx, colMap);
+                if (changeDetector == null) {
+                    updateListItem(id, fields, batch);
+                } else {
+                    pending.add(Pair.create(id, fields));
+                    if (pending.size() >= ListItemChangeDetector.CHUNK_SIZE) {
+                        updateChangedListItems(pending, changeDetector, batch);
+                    }
+                }
+                progress.rowSent();
                 rowNumber++;
             }
+            if (changeDetector != null) {
+                updateChangedListItems(pending, changeDetector, batch);
+                LOGGER.debugWithFormat("Skipped %d unchanged row(s) and %d unchanged field(s)",
+                        changeDetector.getSkippedRows(), changeDetector.getSkippedFields());
+            }
+            batch.tryCompleteAllCurrentRequests();
+            progress.update();
+            if (changeDetector != null) {
+                m_exec.setMessage(changeDetector.getSkippedRows() + " unchanged rows skipped");
+            }
+        } finally {
+            input.close();
+        }
+    }
+
+    private DataRow pollRow(final RowInput input) throws CanceledExecutionException {
+        m_exec.checkCanceled();
+        try {
+            return input.poll();
+        } catch (InterruptedException ex) { // NOSONAR: rethrown as cancellation
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while waiting for input rows");
+        }
+    }
+
+    private ListItemChangeDetector createChangeDetector(final String[] colNames, final int idColIdx,
+            final Map<String, Pair<String, Boolean>> colMap) {
+        final var fieldNames = new LinkedHashSet<String>();
+        for (var i = 0; i < colNames.length; i++) {
+            if (i != idColIdx) {
+                fieldNames.add(colMap.get(colNames[i]).getFirst());
+            }
+        }
+        return new ListItemChangeDetector(m_client, m_exec, this::createListRequestBuilder, fieldNames);
+    }
+
+    private void updateChangedListItems(final List<Pair<String, FieldValueSet>> pending,
+            final ListItemChangeDetector changeDetector, final ListBatchRequest batch)
+            throws IOException, CanceledExecutionException {
+        if (pending.isEmpty()) {
+            return;
+        }
+        for (final var update : changeDetector.reduceToChanges(pending)) {
+            updateListItem(update.getFirst(), update.getSecond(), batch);
+        }
+        pending.clear();
+    }
+
+    /**
+     * Reports the number of rows sent and acknowledged by SharePoint as progress.
+     * Requests enqueued before this was created (e.g. by an overwrite) are not
+     * counted.
+     */
+    private final class RowProgress {
+
+        private final ListBatchRequest m_batch;
+
+        private final long m_noRows;
+
+        private final String m_action;
+
+        private final long m_requestsBefore;
+
+        private long m_rowsSent;
+
+        private RowProgress(final ListBatchRequest batch, final long noRows, final String action) {
+            m_batch = batch;
+            m_noRows = noRows;
+            m_action = action;
+            m_requestsBefore = batch.getEnqueuedRequestCount();
+        }
+
+        private void rowSent() {
+            m_rowsSent++;
+        }
+
+        private void update() {
+            final var sent = m_rowsSent;
+            final var acknowledged = Math.max(0,
+                    Math.min(sent, m_batch.getCompletedRequestCount() - m_requestsBefore));
+            final Supplier<String> message = () -> String.format("%s: %d sent, %d acknowledged", m_action, sent,
+                    acknowledged);
+            if (m_noRows > 0) {
+                m_exec.setProgress(sent / (double) m_noRows, message);
+            } else {
+                m_exec.setMessage(message);
+            }
         }
     }
 
@@ -391,6 +684,15 @@ public final class SharepointListChangingClient implements AutoCloseable {
                 m_timeoutSettings.getReadTimeoutMillis());
     }
 
+    /**
+     * Removes the cached site ID and all cached list IDs of the site, so that they
+     * are resolved again by the next client.
+     */
+    private void invalidateSite() {
+        ListMetadataCache.invalidateList(m_identity, m_siteId, m_listId);
+        m_siteResolver.invalidate();
+    }
+
     /**
      * Returns the list id in case there is already an id or we create a new list.
      *
@@ -432,7 +734,9 @@ public final class SharepointListChangingClient implements AutoCloseable {
      */
     private String getOrCreateNewListId(final boolean failOnExists) throws IOException, InvalidSettingsException {
         var toCreate = m_listSettings.getListNameToCreate().orElseThrow();
-        final var optionalListId = SharePointListUtils.getListIdByDisplayName(m_client, m_siteId, toCreate);
+        final var optionalListId = ListMetadataCache.getListId(m_identity, m_client, m_siteId,
+                "displayName:" + toCreate, l -> toCreate.equals(l.displayName),
+                () -> SharePointListUtils.getListIdByDisplayName(m_client, m_siteId, toCreate));
         if (optionalListId.isPresent() && failOnExists) {
             throw new InvalidSettingsException(
                     "The specified list already exists and the node fails due to overwrite settings");
@@ -456,13 +760,25 @@ public final class SharepointListChangingClient implements AutoCloseable {
      */
     private String getExistingListId(final boolean failOnExists) throws IOException, InvalidSettingsException {
         var result = m_listSettings.getExistingListId();
+        final var internalName = m_listSettings.getExistingListInternalName();
+        final var displayName = m_listSettings.getExistingListDisplayName();
         if (result == null && m_listSettings.isLegacyAndWebUIDialogNeverOpened()) {
-            result = SharePointListUtils.getListIdByInternalOrDisplayNameLegacy(m_client, m_siteId,
-                    m_listSettings.getExistingListInternalName(), m_listSettings.getExistingListDisplayName())
+            result = ListMetadataCache.getListId(m_identity, m_client, m_siteId,
+                    "legacy:" + internalName + ":" + displayName,
+                    l -> internalName != null
+                            ? (internalName.equals(l.name)
+                                    || "%s (%s)".formatted(displayName, internalName).equals(l.displayName))
+                            : Objects.equals(displayName, l.displayName),
+                    () -> SharePointListUtils.getListIdByInternalOrDisplayNameLegacy(m_client, m_siteId,
+                            internalName, displayName))
                     .orElse(null);
         } else if (result == null) {
-            result = SharePointListUtils.getListIdByInternalOrDisplayName(m_client, m_siteId,
-                    m_listSettings.getExistingListInternalName(), m_listSettings.getExistingListDisplayName())
+            result = ListMetadataCache.getListId(m_identity, m_client, m_siteId,
+                    "name:" + internalName + ":" + displayName,
+                    l -> (internalName != null && internalName.equals(l.name))
+                            || Objects.equals(displayName, l.displayName),
+                    () -> SharePointListUtils.getListIdByInternalOrDisplayName(m_client, m_siteId, internalName,
+                            displayName))
                     .orElse(null);
         }
 
@@ -505,6 +821,7 @@ public final class SharepointListChangingClient implements AutoCloseable {
                     .post(list);
             m_listCreated = true;
             m_createdColumns = response.columns;
+            ListMetadataCache.invalidateList(m_identity, m_siteId, response.id);
             return response.id;
         } catch (GraphServiceException ex) {
             if (ex.getServiceError().code.equals("nameAlreadyExists")) {
@@ -550,18 +867,10 @@ public final class SharepointListChangingClient implements AutoCloseable {
      */
     private Map<String, Pair<String, Boolean>> mapColNames(final boolean allowTitleColumn) throws IOException {
         try {
-            var columns = m_createdColumns != null //
-                    ? m_createdColumns //
-                    : createListRequestBuilder().columns().buildRequest().get();
-
-            final var colDefs = new LinkedList<>(columns.getCurrentPage());
-
-            var nextRequest = columns.getNextPage();
-            while (nextRequest != null) {
-                columns = nextRequest.buildRequest().get();
-                colDefs.addAll(columns.getCurrentPage());
-                nextRequest = columns.getNextPage();
-            }
+            final var colDefs = m_createdColumns != null //
+                    ? fetchColumnDefinitions(m_createdColumns) //
+                    : ListMetadataCache.getColumns(m_identity, m_client, m_siteId, m_listId,
+                            () -> fetchColumnDefinitions(createListRequestBuilder().columns().buildRequest().get()));
 
             m_titleColumnDisplayName = colDefs.stream() //
                     .filter(c -> COL_TITLE.equals(c.name)).findAny().map(c -> c.displayName);
@@ -573,15 +882,33 @@ public final class SharepointListChangingClient implements AutoCloseable {
                     .collect(Collectors.toMap(c -> c.displayName, c -> Pair.create(c.name, c.required), //
                             (c1, c2) -> c1)); // select first
         } catch (GraphServiceException ex) {
+            if (SharepointSiteResolver.isNotFound(ex)) {
+                // the list or the cached site does not exist anymore
+                invalidateSite();
+            }
             throw new IOException("Error while mapping column names: " + ex.getServiceError().message, ex);
         }
     }
 
+    private static List<ColumnDefinition> fetchColumnDefinitions(final ColumnDefinitionCollectionPage firstPage) {
+        var columns = firstPage;
+        final var colDefs = new LinkedList<>(columns.getCurrentPage());
+        var nextRequest = columns.getNextPage();
+        while (nextRequest != null) {
+            columns = nextRequest.buildRequest().get();
+            colDefs.addAll(columns.getCurrentPage());
+            nextRequest = columns.getNextPage();
+        }
+        return colDefs;
+    }
+
     /**
      * Creates a {@link ListItem} and sends it to SharePoint.
      *
      * @param row
      *            the current {@link DataRow}
+     * @param rowIndex
+     *            the index of the row, used to tag the request
      * @param colNames
      *            the column names of the table
      * @param colMap
@@ -594,7 +921,7 @@ public final class SharepointListChangingClient implements AutoCloseable {
      *             point due to batching.
      * @throws CanceledExecutionException
      */
-    private void createListItem(final DataRow row, final String[] colNames,
+    private void createListItem(final DataRow row, final long rowIndex, final String[] colNames,
             final Map<String, Pair<String, Boolean>> colMap, final ListBatchRequest batch)
             throws IOException, CanceledExecutionException {
         var i = 0;
@@ -618,33 +945,24 @@ public final class SharepointListChangingClient implements AutoCloseable {
         final var li = new ListItem();
         li.fields = fvs;
 
-        batch.post(createListRequestBuilder().items().buildRequest(), li, m_processItemsSequential);
+        batch.post(createListRequestBuilder().items().buildRequest(), li, m_processItemsSequential, rowIndex);
     }
 
     /**
-     * Updates a {@link ListItem} and sends it to SharePoint.
+     * Creates the {@link FieldValueSet} used to update a {@link ListItem}.
      *
      * @param row
      *            the current {@link DataRow}
      * @param colNames
      *            the column names of the table
-     * @param id
-     *            the ID of the item to update
      * @param idColIndex
      *            the index of the column containing the ID value
      * @param colMap
      *            the mapping of the column names
-     * @param batch
-     *            {@link ListBatchRequest} used to accumulate and execute batch
-     *            requests
-     * @throws IOException
-     *             if creating the items failed. This may get triggered at a later
-     *             point due to batching.
-     * @throws CanceledExecutionException
+     * @return the fields to set; missing cells are mapped to {@code null}
      */
-    private void updateListItem(final DataRow row, final String[] colNames, final String id, final int idColIndex,
-            final Map<String, Pair<String, Boolean>> colMap, final ListBatchRequest batch)
-            throws IOException, CanceledExecutionException {
+    private static FieldValueSet createUpdateFields(final DataRow row, final String[] colNames, final int idColIndex,
+            final Map<String, Pair<String, Boolean>> colMap) {
         var i = 0;
         final var fvs = new FieldValueSet();
 
@@ -668,13 +986,34 @@ public final class SharepointListChangingClient implements AutoCloseable {
             }
             i++;
         }
+        return fvs;
+    }
 
-        batch.patch(createListRequestBuilder().items(id).fields().buildRequest(), fvs, m_processItemsSequential);
+    /**
+     * Updates a {@link ListItem} and sends it to SharePoint.
+     *
+     * @param id
+     *            the ID of the item to update
+     * @param fields
+     *            the fields to set
+     * @param batch
+     *            {@link ListBatchRequest} used to accumulate and execute batch
+     *            requests
+     * @throws IOException
+     *             if creating the items failed. This may get triggered at a later
+     *             point due to batching.
+     * @throws CanceledExecutionException
+     */
+    private void updateListItem(final String id, final FieldValueSet fields, final ListBatchRequest batch)
+            throws IOException, CanceledExecutionException {
+        batch.patch(createListRequestBuilder().items(id).fields().buildRequest(), fields, m_processItemsSequential);
     }
 
     /**
      * Prepares the overwrite process by deleting all columns + the list items which
-     * will remain.
+     * will remain. If the list is large, identified by its name and recreating it
+     * is enabled, it is deleted and recreated instead, as this is much cheaper than
+     * deleting every item.
      *
      * @param batch
      *            {@link ListBatchRequest} used to accumulate and execute batch
@@ -686,10 +1025,25 @@ public final class SharepointListChangingClient implements AutoCloseable {
      * @throws CanceledExecutionException
      */
     private void prepareOverwrite(final ListBatchRequest batch) throws IOException, CanceledExecutionException {
+        // nothing has been changed yet, so the request can be retried with the site
+        // resolved again
+        final var firstItems = m_siteResolver.requestSite(siteId -> {
+            m_siteId = siteId;
+            return fetchItemIdsForDeletion(
+                    () -> createListRequestBuilder().items().buildRequest().select("id").top(ITEM_PAGE_SIZE).get());
+        });
+        if (firstItems.getNextPage() != null && m_recreateListOnOverwrite && canRecreateList()) {
+            // more than a full page of items: deleting them takes at least
+            // ITEM_PAGE_SIZE / 20 batch requests while recreating takes three requests
+            recreateList();
+            return;
+        }
+
         // These are always sequential because SharePoint likes to stumble over itself
-        synchronized (LOCK) {
-            // Multiple parallel executions of different nodes may influence each other
-            // otherwise, resulting in weird errors.
+        final var lock = acquireListLock();
+        try {
+            // Multiple parallel executions of different nodes on the same list may
+            // influence each other otherwise, resulting in weird errors.
             // It still works if we wait for "Retry-After", but it's _really_ slow.
             // Just locking is a lot faster.
             //
@@ -709,12 +1063,109 @@ public final class SharepointListChangingClient implements AutoCloseable {
             // this will only contain columns we explicitly created, so we won't
             // be aware of any system columns to begin with
             parseCreatedColumnsFromOverwrite(results);
+        } finally {
+            ListMetadataCache.invalidateList(m_identity, m_siteId, m_listId);
+            lock.unlock();
         }
-        // The following is node independent so it has to be separated
-        deleteListItems(batch);
-        if (m_processItemsSequential) {
-            // Switch to sequential: has to separated
-            batch.tryCompleteAllCurrentRequests();
+        // The following is node independent so it has to be separated. All
+        // deletions are completed once this returns, so the following sequential
+        // requests are separated from them.
+        deleteListItems(firstItems);
+    }
+
+    /**
+     * Acquires the lock guarding overwrites of the current list. Locks are striped
+     * by site and list ID so that overwrites of unrelated lists do not block each
+     * other.
+     *
+     * @return the acquired lock; has to be unlocked by the caller
+     * @throws CanceledExecutionException
+     *             if the execution was canceled while waiting
+     */
+    private ReentrantLock acquireListLock() throws CanceledExecutionException {
+        final var stripe = Math.floorMod(Objects.hash(m_siteId, m_listId), LOCK_STRIPES);
+        final var lock = LOCKS[stripe];
+        try {
+            // a timed tryLock honors the fairness, contrary to tryLock()
+            if (lock.tryLock(0, TimeUnit.MILLISECONDS)) {
+                ListLockMetrics.getInstance().recordUncontended();
+                return lock;
+            }
+        } catch (InterruptedException ex) { // NOSONAR: rethrown as cancellation
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while waiting for list lock");
+        }
+
+        m_exec.setMessage("Waiting for other overwrites of this list to finish");
+        final var start = System.nanoTime();
+        // wait in the queue of the lock and turn a cancellation into an interrupt
+        final var watcher = new CancellationWatcher(Thread.currentThread());
+        final var watch = CANCEL_WATCHER.scheduleWithFixedDelay(watcher, LOCK_CANCEL_CHECK_MILLIS,
+                LOCK_CANCEL_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+        try {
+            lock.lockInterruptibly();
+        } catch (InterruptedException ex) { // NOSONAR: rethrown as cancellation
+            ListLockMetrics.getInstance().recordCanceled(System.nanoTime() - start);
+            if (!watcher.stop()) {
+                Thread.currentThread().interrupt();
+            }
+            throw new CanceledExecutionException("Canceled while waiting for list lock");
+        } finally {
+            watch.cancel(false);
+        }
+        if (watcher.stop()) {
+            // canceled right after the lock was acquired, clear the interrupt
+            Thread.interrupted(); // NOSONAR: the interrupt was only used to stop waiting
+            lock.unlock();
+            ListLockMetrics.getInstance().recordCanceled(System.nanoTime() - start);
+            throw new CanceledExecutionException("Canceled while waiting for list lock");
+        }
+        final var waited = System.nanoTime() - start;
+        final var metrics = ListLockMetrics.getInstance();
+        metrics.recordContended(waited);
+        LOGGER.debugWithFormat(
+                "Waited %d ms for overwrite lock (stripe %d); %d of %d overwrites waited, %.1f ms on average",
+                TimeUnit.NANOSECONDS.toMillis(waited), stripe, metrics.getContendedAcquisitions(),
+                metrics.getAcquisitions(), metrics.getMeanWaitMillis());
+        return lock;
+    }
+
+    /**
+     * Interrupts a thread waiting for a list lock once the execution is canceled.
+     */
+    private final class CancellationWatcher implements Runnable {
+
+        private final Thread m_waiter;
+
+        private boolean m_stopped;
+
+        private boolean m_interrupted;
+
+        private CancellationWatcher(final Thread waiter) {
+            m_waiter = waiter;
+        }
+
+        @Override
+        public synchronized void run() {
+            if (m_stopped || m_interrupted) {
+                return;
+            }
+            try {
+                m_exec.checkCanceled();
+            } catch (CanceledExecutionException ex) { // NOSONAR: turned into an interrupt
+                m_interrupted = true;
+                m_waiter.interrupt();
+            }
+        }
+
+        /**
+         * Stops watching.
+         *
+         * @return whether the waiting thread was interrupted due to a cancellation
+         */
+        private synchronized boolean stop() {
+            m_stopped = true;
+            return m_interrupted;
         }
     }
 
@@ -808,6 +1259,9 @@ public final class SharepointListChangingClient implements AutoCloseable {
             }
             return existing;
         } catch (GraphServiceException ex) {
+            if (SharepointSiteResolver.isNotFound(ex)) {
+                invalidateSite();
+            }
             throw new IOException("Error while fetching columns for deletion: " + ex.getServiceError().message, ex);
         }
     }
@@ -833,41 +1287,140 @@ public final class SharepointListChangingClient implements AutoCloseable {
     }
 
     /**
-     * Deletes all list items.
+     * Deletes all list items. The deletions do not depend on each other, thus each
+     * page of items is split into slices which are deleted concurrently by
+     * separate batch requests.
      *
-     * @param batch
-     *            {@link ListBatchRequest} used to accumulate and execute batch
-     *            requests
+     * @param firstItems
+     *            the first page of items to delete
      *
      * @throws IOException
-     *             if some part of the item deletion failed. This may get triggered
-     *             at a later point due to batching.
+     *             if some part of the item deletion failed
      * @throws CanceledExecutionException
      */
-    private void deleteListItems(final ListBatchRequest batch) throws IOException, CanceledExecutionException {
+    private void deleteListItems(final ListItemCollectionPage firstItems)
+            throws IOException, CanceledExecutionException {
         m_exec.setMessage("Deleting items");
+        final var cleared = new AtomicLong();
+        final var executor = Executors.newFixedThreadPool(DELETE_THREADS, r -> {
+            final var thread = new Thread(r, "SharePoint-List-Delete-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
         try {
-            m_itemsCleared = 0;
-            var nextRequest = createListRequestBuilder().items();
+            var items = firstItems;
+            while (items != null) {
+                deleteItems(items.getCurrentPage(), executor, cleared);
+                final var nextRequest = items.getNextPage();
+                // the next link already contains the query options of the first request
+                items = nextRequest != null ? fetchItemIdsForDeletion(() -> nextRequest.buildRequest().get()) : null;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-            while (nextRequest != null) {
-                final var items = nextRequest.buildRequest().get();
-                deleteListItems(items, batch);
-                nextRequest = items.getNextPage();
+    private void deleteItems(final List<ListItem> items, final ExecutorService executor, final AtomicLong cleared)
+            throws IOException, CanceledExecutionException {
+        final var sliceSize = Math.max(1, (items.size() + DELETE_THREADS - 1) / DELETE_THREADS);
+        final var futures = new ArrayList<Future<Void>>();
+        for (var start = 0; start < items.size(); start += sliceSize) {
+            final var slice = items.subList(start, Math.min(items.size(), start + sliceSize));
+            futures.add(executor.submit(ThreadUtils.callableWithContext(() -> {
+                try (final var batch = new ListBatchRequest(m_client, m_exec)) {
+                    for (final var item : slice) {
+                        m_exec.checkCanceled();
+                        batch.delete(createListRequestBuilder().items(item.id).buildRequest(), false);
+                        m_exec.setMessage(cleared.incrementAndGet() + " items cleared");
+                    }
+                }
+                return null;
+            })));
+        }
+        try {
+            for (final var future : futures) {
+                future.get();
             }
+        } catch (InterruptedException ex) { // NOSONAR: rethrown as cancellation
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while deleting items");
+        } catch (ExecutionException ex) {
+            futures.forEach(f -> f.cancel(true));
+            if (ex.getCause() instanceof IOException ioe) {
+                throw ioe;
+            } else if (ex.getCause() instanceof CanceledExecutionException cee) {
+                throw cee;
+            }
+            throw new IOException(ex.getCause().getMessage(), ex.getCause());
+        }
+    }
+
+    /**
+     * Fetches a page of list items for deletion.
+     *
+     * @param request
+     *            performs the request of the page
+     * @return the page
+     * @throws IOException
+     *             if the items could not be fetched
+     */
+    private ListItemCollectionPage fetchItemIdsForDeletion(final Supplier<ListItemCollectionPage> request)
+            throws IOException {
+        try {
+            return request.get();
         } catch (GraphServiceException ex) {
+            if (SharepointSiteResolver.isNotFound(ex)) {
+                invalidateSite();
+            }
             throw new IOException("Error while fetching list items for deletion: " + ex.getServiceError().message, ex);
         }
     }
 
-    private void deleteListItems(final ListItemCollectionPage listItems, final ListBatchRequest batch)
-            throws IOException, CanceledExecutionException {
+    /**
+     * @return whether the list can be recreated instead of deleting its items.
+     *         This is only the case if the list is identified by its name, as
+     *         recreating changes its ID.
+     */
+    private boolean canRecreateList() {
+        return m_listSettings.getListMode().filter(ListMode.CREATE::equals).isPresent();
+    }
 
-        for (var item : listItems.getCurrentPage()) {
-            m_itemsCleared++;
-            m_exec.setMessage(m_itemsCleared + " items cleared");
-            m_exec.checkCanceled();
-            batch.delete(createListRequestBuilder().items(item.id).buildRequest(), false);
+    /**
+     * Deletes the list and creates a new one with the same name and the columns of
+     * the input table. The ID of the new list is pushed again.
+     *
+     * @throws IOException
+     *             if the list could not be deleted or created
+     * @throws CanceledExecutionException
+     */
+    private void recreateList() throws IOException, CanceledExecutionException {
+        m_exec.setMessage("Recreating list");
+        final var lock = acquireListLock();
+        try {
+            final String displayName;
+            try {
+                displayName = createListRequestBuilder()
+                        .buildRequest(List.of(new QueryOption("select", "id,displayName"))).get().displayName;
+                createListRequestBuilder().buildRequest().delete();
+            } catch (GraphServiceException ex) {
+                throw new IOException("Error while deleting list for recreation: " + ex.getServiceError().message,
+                        ex);
+            }
+            ListMetadataCache.invalidateList(m_identity, m_siteId, m_listId);
+            LOGGER.infoWithFormat("Deleted list “%s” (%s) for recreation", displayName, m_listId);
+            try {
+                m_listId = tryCreateSharepointList(displayName);
+            } catch (IOException ex) {
+                final var message = String.format("The list “%s” (ID %s) was deleted to be recreated, "
+                        + "but the new list could not be created: %s", displayName, m_listId, ex.getMessage());
+                LOGGER.error(message, ex);
+                throw new IOException(message, ex);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (m_pushListId != null) {
+            m_pushListId.accept(m_listId);
         }
     }
 
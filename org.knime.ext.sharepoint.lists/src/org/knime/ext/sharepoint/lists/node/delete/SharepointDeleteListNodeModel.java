@@ -64,6 +64,7 @@ import org.knime.credentials.base.CredentialPortObject;
 import org.knime.credentials.base.CredentialPortObjectSpec;
 import org.knime.ext.sharepoint.GraphApiUtil;
 import org.knime.ext.sharepoint.GraphCredentialUtil;
+import org.knime.ext.sharepoint.lists.node.ListMetadataCache;
 import org.knime.ext.sharepoint.lists.node.SharePointListUtils;
 import org.knime.ext.sharepoint.lists.node.SharepointListParameters;
 
@@ -112,7 +113,7 @@ final class SharepointDeleteListNodeModel extends WebUINodeModel<SharepointDelet
                 modelSettings.m_timeout.getConnectionTimeoutMillis(), //
                 modelSettings.m_timeout.getReadTimeoutMillis());
 
-        deleteList(client, modelSettings);
+        deleteList(client, GraphCredentialUtil.getCredentialIdentity(credSpec).orElse(null), modelSettings);
 
         return new PortObject[] {};
     }
@@ -122,16 +123,34 @@ final class SharepointDeleteListNodeModel extends WebUINodeModel<SharepointDelet
                 || list.getExistingListDisplayName() != null;
     }
 
-    private static void deleteList(final GraphServiceClient<Request> client,
+    private static void deleteList(final GraphServiceClient<Request> client, final String identity,
             final SharepointDeleteListNodeParameters modelSettings)
             throws ClientException, IOException, InvalidSettingsException {
-        final var siteId = getSiteId(client, modelSettings);
-        final var listId = getListId(client, siteId, modelSettings.m_list);
+        final var siteResolver = modelSettings.m_site.createSiteResolver(client, identity);
+        final var siteId = siteResolver.getTargetSiteId();
+        try {
+            deleteList(client, identity, siteId, modelSettings.m_list);
+        } catch (IOException e) {
+            if (!(e.getCause() instanceof GraphServiceException gse) || gse.getResponseCode() != 404) {
+                throw e;
+            }
+            // the cached site ID may be outdated, resolve the site again and retry once
+            siteResolver.invalidate();
+            deleteList(client, identity, siteResolver.getTargetSiteId(), modelSettings.m_list);
+        }
+    }
+
+    private static void deleteList(final GraphServiceClient<Request> client, final String identity,
+            final String siteId, final SharepointListParameters listParameters)
+            throws IOException, InvalidSettingsException {
+        final var listId = getListId(client, siteId, listParameters);
 
         try {
             client.sites(siteId).lists(listId).buildRequest().delete();
         } catch (GraphServiceException ex) {
             throw new IOException("Error during deletion: " + ex.getServiceError().message, ex);
+        } finally {
+            ListMetadataCache.invalidateList(identity, siteId, listId);
         }
     }
 
@@ -163,11 +182,6 @@ final class SharepointDeleteListNodeModel extends WebUINodeModel<SharepointDelet
         return listId;
     }
 
-    private static String getSiteId(final GraphServiceClient<Request> client,
-            final SharepointDeleteListNodeParameters modelSettings) throws IOException {
-        return modelSettings.m_site.getSiteId(client);
-    }
-
     @Override
     protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec)
             throws IOException, CanceledExecutionException {
@@ -0,0 +1,160 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint.lists.node.reader;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
+
+/**
+ * Settings for the incremental synchronization of the “SharePoint List Reader”
+ * node using delta queries.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+public final class SharepointListDeltaSettings {
+
+    /** Name of the column containing the type of change of an item. */
+    public static final String CHANGE_TYPE_COLUMN = "Change Type";
+
+    /** Change type of items that have been created and not modified since. */
+    public static final String CHANGE_TYPE_CREATED = "created";
+
+    /** Change type of items that have been modified. */
+    public static final String CHANGE_TYPE_UPDATED = "updated";
+
+    /** Change type of items that have been deleted. */
+    public static final String CHANGE_TYPE_DELETED = "deleted";
+
+    private static final String KEY_ENABLED = "delta_enabled";
+
+    private static final String KEY_DELTA_LINK = "delta_link";
+
+    private final SettingsModelBoolean m_enabled;
+
+    private final SettingsModelString m_deltaLink;
+
+    /**
+     * Constructor.
+     */
+    public SharepointListDeltaSettings() {
+        m_enabled = new SettingsModelBoolean(KEY_ENABLED, false);
+        m_deltaLink = new SettingsModelString(KEY_DELTA_LINK, "");
+
+        m_enabled.addChangeListener(e -> m_deltaLink.setEnabled(m_enabled.getBooleanValue()));
+        m_deltaLink.setEnabled(m_enabled.getBooleanValue());
+    }
+
+    /**
+     * Saves the settings in this instance to the given {@link NodeSettingsWO}
+     *
+     * @param settings
+     *            Node settings.
+     */
+    public void saveSettingsTo(final NodeSettingsWO settings) {
+        m_enabled.saveSettingsTo(settings);
+        m_deltaLink.saveSettingsTo(settings);
+    }
+
+    /**
+     * Validates the settings in a given {@link NodeSettingsRO}
+     *
+     * @param settings
+     *            Node settings.
+     * @throws InvalidSettingsException
+     */
+    public void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        m_enabled.validateSettings(settings);
+        m_deltaLink.validateSettings(settings);
+    }
+
+    /**
+     * Loads settings from the given {@link NodeSettingsRO}
+     *
+     * @param settings
+     *            Node settings.
+     * @throws InvalidSettingsException
+     */
+    public void loadSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
+        m_enabled.loadSettingsFrom(settings);
+        m_deltaLink.loadSettingsFrom(settings);
+    }
+
+    /**
+     * @return whether only the changes since the last synchronization are read
+     */
+    public boolean isEnabled() {
+        return m_enabled.getBooleanValue();
+    }
+
+    /**
+     * @return the settings model whether to use delta queries
+     */
+    public SettingsModelBoolean getEnabledModel() {
+        return m_enabled;
+    }
+
+    /**
+     * @return the configured delta link or an empty string if the link of the
+     *         previous execution should be used
+     */
+    public String getDeltaLink() {
+        return m_deltaLink.getStringValue().trim();
+    }
+
+    /**
+     * @return the settings model of the delta link
+     */
+    public SettingsModelString getDeltaLinkModel() {
+        return m_deltaLink;
+    }
+
+}
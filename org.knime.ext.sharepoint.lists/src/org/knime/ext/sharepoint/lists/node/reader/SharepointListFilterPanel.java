@@ -0,0 +1,129 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint.lists.node.reader;
+
+import java.awt.FlowLayout;
+import java.awt.GridBagLayout;
+
+import javax.swing.BorderFactory;
+import javax.swing.Box;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.event.ChangeListener;
+
+import org.knime.core.node.defaultnodesettings.DialogComponent;
+import org.knime.core.node.defaultnodesettings.DialogComponentBoolean;
+import org.knime.core.node.defaultnodesettings.DialogComponentNumberEdit;
+import org.knime.core.node.defaultnodesettings.DialogComponentString;
+import org.knime.core.node.defaultnodesettings.SettingsModel;
+import org.knime.filehandling.core.util.GBCBuilder;
+
+/**
+ * Panel for the {@link SharepointListFilterSettings} of the “SharePoint List
+ * Reader” node.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+final class SharepointListFilterPanel extends JPanel {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient SharepointListFilterSettings m_settings;
+
+    SharepointListFilterPanel(final SharepointListFilterSettings settings) {
+        super(new GridBagLayout());
+        m_settings = settings;
+
+        final var gbc = new GBCBuilder().resetPos().weight(0, 0).anchorFirstLineStart().fillNone();
+
+        add(left(new DialogComponentBoolean(m_settings.getModifiedSinceEnabledModel(), "Modified since")),
+                gbc.build());
+        add(left(new DialogComponentString(m_settings.getModifiedSinceModel(), "", false, 25)), gbc.incX().build());
+        add(new JLabel("(ISO 8601, e.g. 2024-01-31T12:00:00Z)"), gbc.incX().build());
+
+        add(left(new DialogComponentBoolean(m_settings.getIdRangeEnabledModel(), "ID from")),
+                gbc.resetX().incY().build());
+        add(left(new DialogComponentNumberEdit(m_settings.getIdFromModel(), "", 10)), gbc.incX().build());
+        add(left(new DialogComponentNumberEdit(m_settings.getIdToModel(), "to", 10)), gbc.incX().build());
+
+        add(left(new DialogComponentBoolean(m_settings.getChoiceEnabledModel(), "Column (internal name)")),
+                gbc.resetX().incY().build());
+        add(left(new DialogComponentString(m_settings.getChoiceColumnModel(), "", false, 25)), gbc.incX().build());
+        add(left(new DialogComponentString(m_settings.getChoiceValuesModel(), "equals one of (comma separated)",
+                false, 25)), gbc.incX().build());
+
+        add(Box.createHorizontalGlue(), gbc.resetX().incY().setWidth(3).setWeightX(1).fillHorizontal().build());
+
+        setBorder(BorderFactory.createTitledBorder("Server-side row filter"));
+    }
+
+    private static JPanel left(final DialogComponent component) {
+        final var panel = component.getComponentPanel();
+        panel.setLayout(new FlowLayout(FlowLayout.LEFT));
+        return panel;
+    }
+
+    /**
+     * Adds {@link ChangeListener} to the {@link SettingsModel}s.
+     *
+     * @param listener
+     *            the {@link ChangeListener}
+     */
+    void addChangeListener(final ChangeListener listener) {
+        m_settings.getModifiedSinceEnabledModel().addChangeListener(listener);
+        m_settings.getModifiedSinceModel().addChangeListener(listener);
+        m_settings.getIdRangeEnabledModel().addChangeListener(listener);
+        m_settings.getIdFromModel().addChangeListener(listener);
+        m_settings.getIdToModel().addChangeListener(listener);
+        m_settings.getChoiceEnabledModel().addChangeListener(listener);
+        m_settings.getChoiceColumnModel().addChangeListener(listener);
+        m_settings.getChoiceValuesModel().addChangeListener(listener);
+    }
+
+}
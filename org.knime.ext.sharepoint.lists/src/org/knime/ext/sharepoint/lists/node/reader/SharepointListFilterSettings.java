@@ -0,0 +1,326 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint.lists.node.reader;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelLongBounded;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Settings for the server-side row filter of the “SharePoint List Reader”
+ * node. The enabled conditions are combined with “and” and sent as
+ * {@code $filter} query option so that only matching items are transferred.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+public final class SharepointListFilterSettings {
+
+    /** Internal name of the field containing the time of the last modification. */
+    public static final String FIELD_MODIFIED = "Modified";
+
+    /** Internal name of the field containing the item ID. */
+    public static final String FIELD_ID = "ID";
+
+    private static final String KEY_MODIFIED_SINCE_ENABLED = "modified_since_enabled";
+
+    private static final String KEY_MODIFIED_SINCE = "modified_since";
+
+    private static final String KEY_ID_RANGE_ENABLED = "id_range_enabled";
+
+    private static final String KEY_ID_FROM = "id_from";
+
+    private static final String KEY_ID_TO = "id_to";
+
+    private static final String KEY_CHOICE_ENABLED = "choice_enabled";
+
+    private static final String KEY_CHOICE_COLUMN = "choice_column";
+
+    private static final String KEY_CHOICE_VALUES = "choice_values";
+
+    private final SettingsModelBoolean m_modifiedSinceEnabled;
+
+    private final SettingsModelString m_modifiedSince;
+
+    private final SettingsModelBoolean m_idRangeEnabled;
+
+    private final SettingsModelLongBounded m_idFrom;
+
+    private final SettingsModelLongBounded m_idTo;
+
+    private final SettingsModelBoolean m_choiceEnabled;
+
+    private final SettingsModelString m_choiceColumn;
+
+    private final SettingsModelString m_choiceValues;
+
+    /**
+     * Constructor.
+     */
+    public SharepointListFilterSettings() {
+        m_modifiedSinceEnabled = new SettingsModelBoolean(KEY_MODIFIED_SINCE_ENABLED, false);
+        m_modifiedSince = new SettingsModelString(KEY_MODIFIED_SINCE, "");
+        m_idRangeEnabled = new SettingsModelBoolean(KEY_ID_RANGE_ENABLED, false);
+        m_idFrom = new SettingsModelLongBounded(KEY_ID_FROM, 1, 1, Long.MAX_VALUE);
+        m_idTo = new SettingsModelLongBounded(KEY_ID_TO, Long.MAX_VALUE, 1, Long.MAX_VALUE);
+        m_choiceEnabled = new SettingsModelBoolean(KEY_CHOICE_ENABLED, false);
+        m_choiceColumn = new SettingsModelString(KEY_CHOICE_COLUMN, "");
+        m_choiceValues = new SettingsModelString(KEY_CHOICE_VALUES, "");
+
+        m_modifiedSinceEnabled.addChangeListener(e -> updateEnabledness());
+        m_idRangeEnabled.addChangeListener(e -> updateEnabledness());
+        m_choiceEnabled.addChangeListener(e -> updateEnabledness());
+        updateEnabledness();
+    }
+
+    private void updateEnabledness() {
+        m_modifiedSince.setEnabled(m_modifiedSinceEnabled.getBooleanValue());
+        m_idFrom.setEnabled(m_idRangeEnabled.getBooleanValue());
+        m_idTo.setEnabled(m_idRangeEnabled.getBooleanValue());
+        m_choiceColumn.setEnabled(m_choiceEnabled.getBooleanValue());
+        m_choiceValues.setEnabled(m_choiceEnabled.getBooleanValue());
+    }
+
+    /**
+     * Saves the settings in this instance to the given {@link NodeSettingsWO}
+     *
+     * @param settings
+     *            Node settings.
+     */
+    public void saveSettingsTo(final NodeSettingsWO settings) {
+        m_modifiedSinceEnabled.saveSettingsTo(settings);
+        m_modifiedSince.saveSettingsTo(settings);
+        m_idRangeEnabled.saveSettingsTo(settings);
+        m_idFrom.saveSettingsTo(settings);
+        m_idTo.saveSettingsTo(settings);
+        m_choiceEnabled.saveSettingsTo(settings);
+        m_choiceColumn.saveSettingsTo(settings);
+        m_choiceValues.saveSettingsTo(settings);
+    }
+
+    /**
+     * Validates the settings in a given {@link NodeSettingsRO}
+     *
+     * @param settings
+     *            Node settings.
+     * @throws InvalidSettingsException
+     */
+    public void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        final var temp = new SharepointListFilterSettings();
+        temp.loadSettingsFrom(settings);
+        temp.validate();
+    }
+
+    /**
+     * Validates the current settings.
+     *
+     * @throws InvalidSettingsException
+     *             if an enabled condition is incomplete or invalid
+     */
+    public void validate() throws InvalidSettingsException {
+        if (m_modifiedSinceEnabled.getBooleanValue()) {
+            getModifiedSince();
+        }
+        if (m_idRangeEnabled.getBooleanValue()) {
+            CheckUtils.checkSetting(m_idFrom.getLongValue() <= m_idTo.getLongValue(),
+                    "The lower bound of the ID range must not be larger than the upper bound.");
+        }
+        if (m_choiceEnabled.getBooleanValue()) {
+            CheckUtils.checkSetting(!m_choiceColumn.getStringValue().isBlank(),
+                    "Please specify the internal name of the column to filter on.");
+            CheckUtils.checkSetting(!getChoiceValues().isEmpty(),
+                    "Please specify at least one value to filter on.");
+        }
+    }
+
+    /**
+     * Loads settings from the given {@link NodeSettingsRO}
+     *
+     * @param settings
+     *            Node settings.
+     * @throws InvalidSettingsException
+     */
+    public void loadSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
+        m_modifiedSinceEnabled.loadSettingsFrom(settings);
+        m_modifiedSince.loadSettingsFrom(settings);
+        m_idRangeEnabled.loadSettingsFrom(settings);
+        m_idFrom.loadSettingsFrom(settings);
+        m_idTo.loadSettingsFrom(settings);
+        m_choiceEnabled.loadSettingsFrom(settings);
+        m_choiceColumn.loadSettingsFrom(settings);
+        m_choiceValues.loadSettingsFrom(settings);
+    }
+
+    /**
+     * @return whether any filter condition is enabled
+     */
+    public boolean hasConditions() {
+        return m_modifiedSinceEnabled.getBooleanValue() || m_idRangeEnabled.getBooleanValue()
+                || m_choiceEnabled.getBooleanValue();
+    }
+
+    /**
+     * Creates the filter conditions of all enabled filters.
+     *
+     * @return a map from the internal name of the field that is filtered on to the
+     *         OData condition on that field; empty if no filter is enabled
+     * @throws InvalidSettingsException
+     *             if an enabled condition is invalid
+     */
+    public Map<String, String> createConditions() throws InvalidSettingsException {
+        validate();
+        final var conditions = new LinkedHashMap<String, String>();
+        if (m_modifiedSinceEnabled.getBooleanValue()) {
+            conditions.put(FIELD_MODIFIED, String.format("fields/%s ge '%s'", FIELD_MODIFIED,
+                    DateTimeFormatter.ISO_INSTANT.format(getModifiedSince())));
+        }
+        if (m_idRangeEnabled.getBooleanValue()) {
+            var condition = String.format("fields/%s ge %d", FIELD_ID, m_idFrom.getLongValue());
+            if (m_idTo.getLongValue() < Long.MAX_VALUE) {
+                condition += String.format(" and fields/%s le %d", FIELD_ID, m_idTo.getLongValue());
+            }
+            conditions.put(FIELD_ID, condition);
+        }
+        if (m_choiceEnabled.getBooleanValue()) {
+            final var column = m_choiceColumn.getStringValue().trim();
+            conditions.put(column, getChoiceValues().stream()//
+                    .map(v -> String.format("fields/%s eq '%s'", column, v.replace("'", "''")))//
+                    .collect(Collectors.joining(" or ", "(", ")")));
+        }
+        return conditions;
+    }
+
+    private OffsetDateTime getModifiedSince() throws InvalidSettingsException {
+        final var value = m_modifiedSince.getStringValue().trim();
+        try {
+            return OffsetDateTime.parse(value).withOffsetSameInstant(ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            throw new InvalidSettingsException(String.format(
+                    "“%s” is not a valid date and time. Please use the ISO 8601 format, e.g. 2024-01-31T12:00:00Z.",
+                    value), e);
+        }
+    }
+
+    private List<String> getChoiceValues() {
+        return Arrays.stream(m_choiceValues.getStringValue().split(","))//
+                .map(String::trim)//
+                .filter(s -> !s.isEmpty())//
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return the settings model whether to filter on the modification time
+     */
+    public SettingsModelBoolean getModifiedSinceEnabledModel() {
+        return m_modifiedSinceEnabled;
+    }
+
+    /**
+     * @return the settings model of the earliest modification time
+     */
+    public SettingsModelString getModifiedSinceModel() {
+        return m_modifiedSince;
+    }
+
+    /**
+     * @return the settings model whether to filter on an ID range
+     */
+    public SettingsModelBoolean getIdRangeEnabledModel() {
+        return m_idRangeEnabled;
+    }
+
+    /**
+     * @return the settings model of the lower bound (inclusive) of the ID range
+     */
+    public SettingsModelLongBounded getIdFromModel() {
+        return m_idFrom;
+    }
+
+    /**
+     * @return the settings model of the upper bound (inclusive) of the ID range
+     */
+    public SettingsModelLongBounded getIdToModel() {
+        return m_idTo;
+    }
+
+    /**
+     * @return the settings model whether to filter on choice values
+     */
+    public SettingsModelBoolean getChoiceEnabledModel() {
+        return m_choiceEnabled;
+    }
+
+    /**
+     * @return the settings model of the internal name of the choice column
+     */
+    public SettingsModelString getChoiceColumnModel() {
+        return m_choiceColumn;
+    }
+
+    /**
+     * @return the settings model of the comma separated accepted choice values
+     */
+    public SettingsModelString getChoiceValuesModel() {
+        return m_choiceValues;
+    }
+
+}
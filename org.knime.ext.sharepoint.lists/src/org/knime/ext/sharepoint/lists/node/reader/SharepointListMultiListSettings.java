@@ -0,0 +1,265 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint.lists.node.reader;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelString;
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Settings deciding which lists are read by the “SharePoint List Reader” node.
+ * Lists with the same columns can be read at once and are concatenated.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+public final class SharepointListMultiListSettings {
+
+    private static final String KEY_MODE = "list_selection_mode";
+
+    private static final String KEY_NAME_PATTERN = "list_name_pattern";
+
+    private static final String KEY_LISTS = "lists";
+
+    private static final String KEY_APPEND_SOURCE = "append_source_list_column";
+
+    private static final String KEY_SOURCE_COLUMN = "source_list_column_name";
+
+    private final SettingsModelString m_mode;
+
+    private final SettingsModelString m_namePattern;
+
+    private final SettingsModelString m_lists;
+
+    private final SettingsModelBoolean m_appendSource;
+
+    private final SettingsModelString m_sourceColumn;
+
+    /**
+     * Constructor.
+     */
+    public SharepointListMultiListSettings() {
+        m_mode = new SettingsModelString(KEY_MODE, ListSelectionMode.SINGLE.name());
+        m_namePattern = new SettingsModelString(KEY_NAME_PATTERN, "*");
+        m_lists = new SettingsModelString(KEY_LISTS, "");
+        m_appendSource = new SettingsModelBoolean(KEY_APPEND_SOURCE, false);
+        m_sourceColumn = new SettingsModelString(KEY_SOURCE_COLUMN, "Source List");
+
+        m_mode.addChangeListener(e -> updateEnabledness());
+        m_appendSource.addChangeListener(e -> updateEnabledness());
+        updateEnabledness();
+    }
+
+    private void updateEnabledness() {
+        final var mode = getMode();
+        m_namePattern.setEnabled(mode == ListSelectionMode.PATTERN);
+        m_lists.setEnabled(mode == ListSelectionMode.LIST);
+        m_sourceColumn.setEnabled(m_appendSource.getBooleanValue());
+    }
+
+    /**
+     * Saves the settings in this instance to the given {@link NodeSettingsWO}
+     *
+     * @param settings
+     *            Node settings.
+     */
+    public void saveSettingsTo(final NodeSettingsWO settings) {
+        m_mode.saveSettingsTo(settings);
+        m_namePattern.saveSettingsTo(settings);
+        m_lists.saveSettingsTo(settings);
+        m_appendSource.saveSettingsTo(settings);
+        m_sourceColumn.saveSettingsTo(settings);
+    }
+
+    /**
+     * Validates the settings in a given {@link NodeSettingsRO}
+     *
+     * @param settings
+     *            Node settings.
+     * @throws InvalidSettingsException
+     */
+    public void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        final var temp = new SharepointListMultiListSettings();
+        temp.loadSettingsFrom(settings);
+        temp.validate();
+    }
+
+    /**
+     * Validates the current settings.
+     *
+     * @throws InvalidSettingsException
+     *             if the settings are invalid
+     */
+    public void validate() throws InvalidSettingsException {
+        try {
+            ListSelectionMode.valueOf(m_mode.getStringValue());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSettingsException("Unknown list selection mode: " + m_mode.getStringValue(), e);
+        }
+        final var mode = getMode();
+        CheckUtils.checkSetting(mode != ListSelectionMode.PATTERN || !m_namePattern.getStringValue().isBlank(),
+                "Please specify a list name pattern.");
+        CheckUtils.checkSetting(mode != ListSelectionMode.LIST || !getLists().isEmpty(),
+                "Please specify at least one list ID or name.");
+        CheckUtils.checkSetting(!m_appendSource.getBooleanValue() || !m_sourceColumn.getStringValue().isBlank(),
+                "Please specify the name of the source list column.");
+    }
+
+    /**
+     * Loads settings from the given {@link NodeSettingsRO}
+     *
+     * @param settings
+     *            Node settings.
+     * @throws InvalidSettingsException
+     */
+    public void loadSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
+        m_mode.loadSettingsFrom(settings);
+        m_namePattern.loadSettingsFrom(settings);
+        m_lists.loadSettingsFrom(settings);
+        m_appendSource.loadSettingsFrom(settings);
+        m_sourceColumn.loadSettingsFrom(settings);
+    }
+
+    /**
+     * @return the {@link ListSelectionMode}
+     */
+    public ListSelectionMode getMode() {
+        try {
+            return ListSelectionMode.valueOf(m_mode.getStringValue());
+        } catch (IllegalArgumentException e) { // NOSONAR reported by validate
+            return ListSelectionMode.SINGLE;
+        }
+    }
+
+    /**
+     * @return the configured wildcard pattern ({@code *} and {@code ?}) as
+     *         case-insensitive regular expression
+     */
+    public Pattern getNamePattern() {
+        final var pattern = m_namePattern.getStringValue().trim();
+        final var regex = new StringBuilder();
+        var literalStart = 0;
+        for (var i = 0; i < pattern.length(); i++) {
+            final var c = pattern.charAt(i);
+            if (c == '*' || c == '?') {
+                regex.append(Pattern.quote(pattern.substring(literalStart, i))).append(c == '*' ? ".*" : ".");
+                literalStart = i + 1;
+            }
+        }
+        regex.append(Pattern.quote(pattern.substring(literalStart)));
+        return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    /**
+     * @return the configured list IDs or internal names
+     */
+    public List<String> getLists() {
+        return Arrays.stream(m_lists.getStringValue().split(","))//
+                .map(String::trim)//
+                .filter(s -> !s.isEmpty())//
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return whether a column containing the name of the source list is appended
+     */
+    public boolean isAppendSource() {
+        return m_appendSource.getBooleanValue();
+    }
+
+    /**
+     * @return the name of the source list column
+     */
+    public String getSourceColumn() {
+        return m_sourceColumn.getStringValue();
+    }
+
+    /**
+     * @return the settings model of the {@link ListSelectionMode}
+     */
+    public SettingsModelString getModeModel() {
+        return m_mode;
+    }
+
+    /**
+     * @return the settings model of the list name pattern
+     */
+    public SettingsModelString getNamePatternModel() {
+        return m_namePattern;
+    }
+
+    /**
+     * @return the settings model of the comma separated list IDs or names
+     */
+    public SettingsModelString getListsModel() {
+        return m_lists;
+    }
+
+    /**
+     * @return the settings model whether to append the source list column
+     */
+    public SettingsModelBoolean getAppendSourceModel() {
+        return m_appendSource;
+    }
+
+    /**
+     * @return the settings model of the source list column name
+     */
+    public SettingsModelString getSourceColumnModel() {
+        return m_sourceColumn;
+    }
+
+}
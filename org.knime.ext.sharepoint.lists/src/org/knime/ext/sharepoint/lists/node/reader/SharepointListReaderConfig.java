@@ -48,6 +48,8 @@
  */
 package org.knime.ext.sharepoint.lists.node.reader;
 
+import java.util.Set;
+
 import org.knime.ext.sharepoint.lists.node.SharepointListSettings;
 import org.knime.filehandling.core.node.table.reader.config.ReaderSpecificConfig;
 
@@ -61,15 +63,41 @@ public final class SharepointListReaderConfig implements ReaderSpecificConfig<Sh
 
     private SharepointListSettings m_sharepointListSettings;
 
+    private SharepointListFilterSettings m_filterSettings;
+
+    private SharepointListDeltaSettings m_deltaSettings;
+
+    private SharepointListParallelReadSettings m_parallelReadSettings;
+
+    private SharepointListMultiListSettings m_multiListSettings;
+
+    private SharepointListLookupSettings m_lookupSettings;
+
+    private String m_deltaLink;
+
+    private Set<String> m_selectedColumns;
+
     /**
      * Constructor.
      */
     public SharepointListReaderConfig() {
         m_sharepointListSettings = new SharepointListSettings();
+        m_filterSettings = new SharepointListFilterSettings();
+        m_deltaSettings = new SharepointListDeltaSettings();
+        m_parallelReadSettings = new SharepointListParallelReadSettings();
+        m_multiListSettings = new SharepointListMultiListSettings();
+        m_lookupSettings = new SharepointListLookupSettings();
     }
 
     private SharepointListReaderConfig(final SharepointListReaderConfig toCopy) {
         m_sharepointListSettings = toCopy.getSharepointListSettings();
+        m_filterSettings = toCopy.getFilterSettings();
+        m_deltaSettings = toCopy.getDeltaSettings();
+        m_parallelReadSettings = toCopy.getParallelReadSettings();
+        m_multiListSettings = toCopy.getMultiListSettings();
+        m_lookupSettings = toCopy.getLookupSettings();
+        m_deltaLink = toCopy.getDeltaLink();
+        m_selectedColumns = toCopy.getSelectedColumns();
     }
 
     @Override
@@ -92,4 +120,77 @@ public final class SharepointListReaderConfig implements ReaderSpecificConfig<Sh
         return m_sharepointListSettings;
     }
 
+    /**
+     * @return the {@link SharepointListFilterSettings}
+     */
+    public SharepointListFilterSettings getFilterSettings() {
+        return m_filterSettings;
+    }
+
+    /**
+     * @return the {@link SharepointListDeltaSettings}
+     */
+    public SharepointListDeltaSettings getDeltaSettings() {
+        return m_deltaSettings;
+    }
+
+    /**
+     * @return the {@link SharepointListParallelReadSettings}
+     */
+    public SharepointListParallelReadSettings getParallelReadSettings() {
+        return m_parallelReadSettings;
+    }
+
+    /**
+     * @return the {@link SharepointListMultiListSettings}
+     */
+    public SharepointListMultiListSettings getMultiListSettings() {
+        return m_multiListSettings;
+    }
+
+    /**
+     * @return the {@link SharepointListLookupSettings}
+     */
+    public SharepointListLookupSettings getLookupSettings() {
+        return m_lookupSettings;
+    }
+
+    /**
+     * Sets the delta link from which on changes are read if delta queries are
+     * enabled. This is not persisted as part of the settings.
+     *
+     * @param deltaLink
+     *            the delta link or {@code null} to read all items
+     */
+    public void setDeltaLink(final String deltaLink) {
+        m_deltaLink = deltaLink;
+    }
+
+    /**
+     * @return the delta link from which on changes are read or {@code null} to
+     *         read all items
+     */
+    public String getDeltaLink() {
+        return m_deltaLink;
+    }
+
+    /**
+     * Sets the names of the columns which are part of the output. This is not
+     * persisted and only used to avoid requesting unused fields.
+     *
+     * @param selectedColumns
+     *            the column names or {@code null} if all columns are needed
+     */
+    public void setSelectedColumns(final Set<String> selectedColumns) {
+        m_selectedColumns = selectedColumns;
+    }
+
+    /**
+     * @return the names of the columns which are part of the output or
+     *         {@code null} if all columns are needed
+     */
+    public Set<String> getSelectedColumns() {
+        return m_selectedColumns;
+    }
+
 }
\ No newline at end of file
@@ -91,10 +91,20 @@ enum SharepointListReaderConfigSerializer implements ConfigSerializer<Sharepoint
 
     private static final String CFG_TABLE_SPEC_CONFIG = "table_spec_config" + SettingsModel.CFGKEY_INTERNAL;
 
+    private static final String CFG_MULTI_LIST = "multi_list";
+
     private static final String SUB_CFG_ADVANCED = "advanced";
 
     private static final String CFG_TIMEOUT = "timeout";
 
+    private static final String CFG_FILTER = "filter";
+
+    private static final String CFG_DELTA = "delta";
+
+    private static final String CFG_PARALLEL_READ = "parallel_read";
+
+    private static final String CFG_LOOKUP = "lookup";
+
     private static final String SUB_CFG_LIMIT_ROWS = "limit_rows";
 
     private static final String CFG_SKIP_ROWS = "skip_data_rows";
@@ -146,6 +156,12 @@ enum SharepointListReaderConfigSerializer implements ConfigSerializer<Sharepoint
         final var sls = config.getReaderSpecificConfig().getSharepointListSettings();
         sls.getSiteSettings().saveSettingsTo(settings);
         sls.getListSettings().saveSettingsTo(settings);
+        // reading several lists changes the spec, only store the settings if used to
+        // keep the ID of older nodes
+        final var multiList = config.getReaderSpecificConfig().getMultiListSettings();
+        if (multiList.getMode() != ListSelectionMode.SINGLE) {
+            multiList.saveSettingsTo(settings.addNodeSettings(CFG_MULTI_LIST));
+        }
     }
 
     private static void saveConfigIDAdvancedTab(final SharepointListReaderMultiTableReadConfig config,
@@ -153,6 +169,11 @@ enum SharepointListReaderConfigSerializer implements ConfigSerializer<Sharepoint
         final var sls = config.getReaderSpecificConfig().getSharepointListSettings();
         final NodeSettingsWO timeout = settings.addNodeSettings(CFG_TIMEOUT);
         sls.getTimeoutSettings().saveSettingsTo(timeout);
+        // delta queries add a column, only store the flag if set to keep the ID of older nodes
+        final var delta = config.getReaderSpecificConfig().getDeltaSettings();
+        if (delta.isEnabled()) {
+            delta.getEnabledModel().saveSettingsTo(settings.addNodeSettings(CFG_DELTA));
+        }
     }
 
     private static void saveConfigIDLimitRowsTab(final SharepointListReaderMultiTableReadConfig config,
@@ -197,9 +218,15 @@ enum SharepointListReaderConfigSerializer implements ConfigSerializer<Sharepoint
         try {
             sls.getSiteSettings().loadSettingsFrom(settings);
             sls.getListSettings().loadSettingsFrom(settings);
+            // reading several lists was added later, keep the defaults for old nodes
+            if (settings.containsKey(CFG_MULTI_LIST)) {
+                config.getReaderSpecificConfig().getMultiListSettings()
+                        .loadSettingsFrom(settings.getNodeSettings(CFG_MULTI_LIST));
+            }
         } catch (InvalidSettingsException ex) {
             LOGGER.debug("Unexpected InvalidSettingsException occured", ex);
         }
+        applySourceColumn(config);
     }
 
     private static void loadAdvancedTabInDialog(final SharepointListReaderMultiTableReadConfig config,
@@ -207,6 +234,23 @@ enum SharepointListReaderConfigSerializer implements ConfigSerializer<Sharepoint
         final var sls = config.getReaderSpecificConfig().getSharepointListSettings();
         try {
             sls.getTimeoutSettings().loadSettingsFrom(settings.getNodeSettings(CFG_TIMEOUT));
+            // the filter was added later, keep the defaults for old nodes
+            if (settings.containsKey(CFG_FILTER)) {
+                config.getReaderSpecificConfig().getFilterSettings()
+                        .loadSettingsFrom(settings.getNodeSettings(CFG_FILTER));
+            }
+            if (settings.containsKey(CFG_DELTA)) {
+                config.getReaderSpecificConfig().getDeltaSettings()
+                        .loadSettingsFrom(settings.getNodeSettings(CFG_DELTA));
+            }
+            if (settings.containsKey(CFG_PARALLEL_READ)) {
+                config.getReaderSpecificConfig().getParallelReadSettings()
+                        .loadSettingsFrom(settings.getNodeSettings(CFG_PARALLEL_READ));
+            }
+            if (settings.containsKey(CFG_LOOKUP)) {
+                config.getReaderSpecificConfig().getLookupSettings()
+                        .loadSettingsFrom(settings.getNodeSettings(CFG_LOOKUP));
+            }
         } catch (InvalidSettingsException ex) {
             LOGGER.debug("Unexpected InvalidSettingsException occured", ex);
         }
@@ -239,12 +283,44 @@ enum SharepointListReaderConfigSerializer implements ConfigSerializer<Sharepoint
         final var sls = config.getReaderSpecificConfig().getSharepointListSettings();
         sls.getSiteSettings().loadSettingsFrom(settings);
         sls.getListSettings().loadSettingsFrom(settings);
+        if (settings.containsKey(CFG_MULTI_LIST)) {
+            config.getReaderSpecificConfig().getMultiListSettings()
+                    .loadSettingsFrom(settings.getNodeSettings(CFG_MULTI_LIST));
+        }
+        applySourceColumn(config);
+    }
+
+    /**
+     * Transfers the source list column of the {@link SharepointListMultiListSettings}
+     * to the item identifier column of the given config.
+     *
+     * @param config
+     *            the config to update
+     */
+    static void applySourceColumn(final SharepointListReaderMultiTableReadConfig config) {
+        final var multiList = config.getReaderSpecificConfig().getMultiListSettings();
+        config.setAppendItemIdentifierColumn(
+                multiList.getMode() != ListSelectionMode.SINGLE && multiList.isAppendSource());
+        config.setItemIdentifierColumnName(multiList.getSourceColumn());
     }
 
     private static void loadAdvancedTabInModel(final SharepointListReaderMultiTableReadConfig config,
             final NodeSettingsRO settings) throws InvalidSettingsException {
         final var sls = config.getReaderSpecificConfig().getSharepointListSettings();
         sls.getTimeoutSettings().loadSettingsFrom(settings.getNodeSettings(CFG_TIMEOUT));
+        if (settings.containsKey(CFG_FILTER)) {
+            config.getReaderSpecificConfig().getFilterSettings().loadSettingsFrom(settings.getNodeSettings(CFG_FILTER));
+        }
+        if (settings.containsKey(CFG_DELTA)) {
+            config.getReaderSpecificConfig().getDeltaSettings().loadSettingsFrom(settings.getNodeSettings(CFG_DELTA));
+        }
+        if (settings.containsKey(CFG_PARALLEL_READ)) {
+            config.getReaderSpecificConfig().getParallelReadSettings()
+                    .loadSettingsFrom(settings.getNodeSettings(CFG_PARALLEL_READ));
+        }
+        if (settings.containsKey(CFG_LOOKUP)) {
+            config.getReaderSpecificConfig().getLookupSettings().loadSettingsFrom(settings.getNodeSettings(CFG_LOOKUP));
+        }
     }
 
     private static void loadLimitRowsTabInModel(final SharepointListReaderMultiTableReadConfig config,
@@ -271,6 +347,8 @@ enum SharepointListReaderConfigSerializer implements ConfigSerializer<Sharepoint
         final var sls = config.getReaderSpecificConfig().getSharepointListSettings();
         sls.getSiteSettings().saveSettingsTo(settings);
         sls.getListSettings().saveSettingsTo(settings);
+        config.getReaderSpecificConfig().getMultiListSettings()
+                .saveSettingsTo(settings.addNodeSettings(CFG_MULTI_LIST));
     }
 
     private static void saveAdvancedTab(final SharepointListReaderMultiTableReadConfig config,
@@ -278,6 +356,11 @@ enum SharepointListReaderConfigSerializer implements ConfigSerializer<Sharepoint
         final var sls = config.getReaderSpecificConfig().getSharepointListSettings();
         final NodeSettingsWO timeout = settings.addNodeSettings(CFG_TIMEOUT);
         sls.getTimeoutSettings().saveSettingsTo(timeout);
+        config.getReaderSpecificConfig().getFilterSettings().saveSettingsTo(settings.addNodeSettings(CFG_FILTER));
+        config.getReaderSpecificConfig().getDeltaSettings().saveSettingsTo(settings.addNodeSettings(CFG_DELTA));
+        config.getReaderSpecificConfig().getParallelReadSettings()
+                .saveSettingsTo(settings.addNodeSettings(CFG_PARALLEL_READ));
+        config.getReaderSpecificConfig().getLookupSettings().saveSettingsTo(settings.addNodeSettings(CFG_LOOKUP));
     }
 
     private static void saveLimitRowsTab(final SharepointListReaderMultiTableReadConfig config,
@@ -311,11 +394,26 @@ enum SharepointListReaderConfigSerializer implements ConfigSerializer<Sharepoint
         final var sls = new SharepointListSettings();
         sls.getSiteSettings().validateSettings(settings);
         sls.getListSettings().validateSettings(settings);
+        if (settings.containsKey(CFG_MULTI_LIST)) {
+            new SharepointListMultiListSettings().validateSettings(settings.getNodeSettings(CFG_MULTI_LIST));
+        }
     }
 
     private static void validateAdvancedTab(final NodeSettingsRO settings) throws InvalidSettingsException {
         final var sls = new SharepointListSettings();
         sls.getTimeoutSettings().validateSettings(settings.getNodeSettings(CFG_TIMEOUT));
+        if (settings.containsKey(CFG_FILTER)) {
+            new SharepointListFilterSettings().validateSettings(settings.getNodeSettings(CFG_FILTER));
+        }
+        if (settings.containsKey(CFG_DELTA)) {
+            new SharepointListDeltaSettings().validateSettings(settings.getNodeSettings(CFG_DELTA));
+        }
+        if (settings.containsKey(CFG_PARALLEL_READ)) {
+            new SharepointListParallelReadSettings().validateSettings(settings.getNodeSettings(CFG_PARALLEL_READ));
+        }
+        if (settings.containsKey(CFG_LOOKUP)) {
+            new SharepointListLookupSettings().validateSettings(settings.getNodeSettings(CFG_LOOKUP));
+        }
     }
 
     public static void validateLimitRowsTab(final NodeSettingsRO settings) throws InvalidSettingsException {
@@ -52,7 +52,6 @@ import java.awt.GridBagLayout;
 import java.awt.event.ActionListener;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -120,11 +119,21 @@ public class SharepointListReaderNodeDialog extends DataAwareNodeDialogPane {
 
     private final SharepointListSettingsPanel m_listSettingsPanel;
 
+    private final SharepointListMultiListPanel m_multiListPanel;
+
     private final SharepointListReaderMultiTableReadConfig m_config;
 
     // advanced tab
     private final TimeoutPanel m_timeoutPanel;
 
+    private final SharepointListFilterPanel m_filterPanel;
+
+    private final SharepointListDeltaPanel m_deltaPanel;
+
+    private final SharepointListParallelReadPanel m_parallelReadPanel;
+
+    private final SharepointListLookupPanel m_lookupPanel;
+
     // limit rows tab
     private final JCheckBox m_skipRowsEnabled;
     private final JSpinner m_skipRowsNumber;
@@ -149,10 +158,18 @@ public class SharepointListReaderNodeDialog extends DataAwareNodeDialogPane {
 
         m_listSettingsPanel = new SharepointListSettingsPanel(
                 m_config.getReaderSpecificConfig().getSharepointListSettings());
+        m_multiListPanel = new SharepointListMultiListPanel(
+                m_config.getReaderSpecificConfig().getMultiListSettings());
 
         m_timeoutPanel = new TimeoutPanel(
                 m_config.getReaderSpecificConfig().getSharepointListSettings().getTimeoutSettings());
 
+        m_filterPanel = new SharepointListFilterPanel(m_config.getReaderSpecificConfig().getFilterSettings());
+        m_deltaPanel = new SharepointListDeltaPanel(m_config.getReaderSpecificConfig().getDeltaSettings());
+        m_parallelReadPanel = new SharepointListParallelReadPanel(
+                m_config.getReaderSpecificConfig().getParallelReadSettings());
+        m_lookupPanel = new SharepointListLookupPanel(m_config.getReaderSpecificConfig().getLookupSettings());
+
         final var stepSize = Long.valueOf(1);
         final var rowStart = Long.valueOf(0);
         final var rowEnd = Long.valueOf(Long.MAX_VALUE);
@@ -182,7 +199,12 @@ public class SharepointListReaderNodeDialog extends DataAwareNodeDialogPane {
         final ChangeListener change = c -> configChanged();
 
         m_timeoutPanel.addChangeListener(change);
+        m_filterPanel.addChangeListener(change);
+        m_deltaPanel.addChangeListener(change);
+        m_parallelReadPanel.addChangeListener(change);
+        m_lookupPanel.addChangeListener(change);
         m_listSettingsPanel.addExternalListener(change);
+        m_multiListPanel.addChangeListener(change);
 
         m_skipRowsEnabled.addActionListener(action);
         m_skipRowsNumber.addChangeListener(change);
@@ -208,14 +230,16 @@ public class SharepointListReaderNodeDialog extends DataAwareNodeDialogPane {
     }
 
     private SharepointListClientAccessor createSharepointListClientAccessor() {
-        return new SharepointListClientAccessor(m_config.getReaderSpecificConfig().getSharepointListSettings(),
-                m_credentialPortSpec);
+        final var readerConfig = m_config.getReaderSpecificConfig();
+        return new SharepointListClientAccessor(readerConfig.getSharepointListSettings(),
+                readerConfig.getMultiListSettings(), m_credentialPortSpec);
     }
 
     private JPanel createSettingsPanel() {
         final var panel = new JPanel(new GridBagLayout());
         final var gbc = new GBCBuilder().resetPos().weight(1, 0).anchorFirstLineStart().fillHorizontal();
         panel.add(m_listSettingsPanel, gbc.build());
+        panel.add(m_multiListPanel, gbc.incY().build());
 
         panel.add(createPreview(), gbc.incY().fillBoth().setWeightY(1).build());
         return panel;
@@ -227,6 +251,10 @@ public class SharepointListReaderNodeDialog extends DataAwareNodeDialogPane {
         final var gbc = new GBCBuilder().resetPos().weight(1, 0).insets(5, 0, 5, 5).anchorFirstLineStart()
                 .fillHorizontal();
         panel.add(m_timeoutPanel, gbc.build());
+        panel.add(m_filterPanel, gbc.incY().build());
+        panel.add(m_deltaPanel, gbc.incY().build());
+        panel.add(m_parallelReadPanel, gbc.incY().build());
+        panel.add(m_lookupPanel, gbc.incY().build());
 
         panel.add(createPreview(), gbc.incY().fillBoth().setWeightY(1).build());
         return panel;
@@ -377,6 +405,7 @@ public class SharepointListReaderNodeDialog extends DataAwareNodeDialogPane {
      */
     protected void saveConfig() throws InvalidSettingsException {
         saveTableReadSettings();
+        SharepointListReaderConfigSerializer.applySourceColumn(m_config);
         m_config.setTableSpecConfig(getTableSpecConfig());
     }
 
@@ -512,50 +541,58 @@ public class SharepointListReaderNodeDialog extends DataAwareNodeDialogPane {
 
         private final SharepointListSettings m_listSettings;
 
+        private final SharepointListMultiListSettings m_multiListSettings;
+
         private final CredentialPortObjectSpec m_credentialPortSpec;
 
-        private SharepointListClient m_client;
+        private List<SharepointListClient> m_clients;
 
         private SharepointListClientAccessor(final SharepointListSettings settings,
-                final CredentialPortObjectSpec credSpec) {
+                final SharepointListMultiListSettings multiListSettings, final CredentialPortObjectSpec credSpec) {
             m_listSettings = settings;
+            m_multiListSettings = multiListSettings;
             m_credentialPortSpec = credSpec;
         }
 
         @Override
         public void close() throws IOException {
             try {
-                if (m_client != null) {
-                    m_client.close();
+                if (m_clients != null) {
+                    m_clients.forEach(SharepointListClient::close);
                 }
             } finally {
-                m_client = null;
+                m_clients = null;
             }
         }
 
         @Override
         public List<SharepointListClient> getItems(final Consumer<StatusMessage> statusMessageConsumer)
                 throws IOException, InvalidSettingsException {
-
-            return Collections.singletonList(getRootItem(statusMessageConsumer));
-        }
-
-        @Override
-        public SharepointListClient getRootItem(final Consumer<StatusMessage> statusMessageConsumer)
-                throws IOException {
             try {
-                if (m_client == null) {
+                if (m_clients == null) {
                     final var timeouts = m_listSettings.getTimeoutSettings();
                     final var graphClient = GraphApiUtil.createClient(//
                             GraphCredentialUtil.createAuthenticationProvider(m_credentialPortSpec), //
                             timeouts.getConnectionTimeout(), //
                             timeouts.getReadTimeout());
-                    m_client = new SharepointListClient(graphClient, m_listSettings);
+                    m_clients = SharepointListClient.createClients(graphClient,
+                            GraphCredentialUtil.getCredentialIdentity(m_credentialPortSpec).orElse(null),
+                            m_listSettings, m_multiListSettings);
                 }
-                return m_client;
+                return m_clients;
             } catch (final Exception e) {
                 throw ExceptionUtil.wrapAsIOException(e);
             }
         }
+
+        @Override
+        public SharepointListClient getRootItem(final Consumer<StatusMessage> statusMessageConsumer)
+                throws IOException {
+            try {
+                return getItems(statusMessageConsumer).get(0);
+            } catch (final InvalidSettingsException e) {
+                throw ExceptionUtil.wrapAsIOException(e);
+            }
+        }
     }
 }
@@ -49,8 +49,13 @@
 package org.knime.ext.sharepoint.lists.node.reader;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.knime.core.data.DataType;
 import org.knime.core.node.BufferedDataTable;
@@ -58,6 +63,7 @@ import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettings;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.port.PortObject;
@@ -70,12 +76,12 @@ import org.knime.core.node.streamable.PortObjectInput;
 import org.knime.core.node.streamable.PortOutput;
 import org.knime.core.node.streamable.RowOutput;
 import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.core.node.util.CheckUtils;
 import org.knime.credentials.base.CredentialPortObject;
 import org.knime.credentials.base.CredentialPortObjectSpec;
 import org.knime.credentials.base.NoSuchCredentialException;
 import org.knime.ext.sharepoint.GraphApiUtil;
 import org.knime.ext.sharepoint.GraphCredentialUtil;
-import org.knime.ext.sharepoint.lists.node.SharepointListSettings;
 import org.knime.ext.sharepoint.lists.node.reader.framework.SharepointListClient;
 import org.knime.ext.sharepoint.lists.node.reader.framework.SharepointListReader;
 import org.knime.ext.sharepoint.lists.node.reader.mapping.SharepointListReadAdapterFactory;
@@ -84,6 +90,7 @@ import org.knime.filehandling.core.node.table.reader.DefaultSourceGroup;
 import org.knime.filehandling.core.node.table.reader.MultiTableReader;
 import org.knime.filehandling.core.node.table.reader.ProductionPathProvider;
 import org.knime.filehandling.core.node.table.reader.SourceGroup;
+import org.knime.filehandling.core.node.table.reader.config.tablespec.ColumnTransformation;
 import org.knime.filehandling.core.node.table.reader.rowkey.DefaultRowKeyGeneratorContextFactory;
 
 /**
@@ -94,6 +101,13 @@ import org.knime.filehandling.core.node.table.reader.rowkey.DefaultRowKeyGenerat
  */
 final class SharepointListReaderNodeModel extends NodeModel {
 
+    private static final String DELTA_LINK_VAR_NAME = "sharepoint_list_delta_link";
+
+    private static final String DELTA_FILE_NAME = "delta.xml";
+
+    private static final String KEY_DELTA_LIST_ID = "list_id";
+
+    private static final String KEY_DELTA_LINK = "delta_link";
 
     private final SharepointListReaderMultiTableReadConfig m_config;
 
@@ -104,6 +118,14 @@ final class SharepointListReaderNodeModel extends NodeModel {
      */
     private final MultiTableReader<SharepointListClient, SharepointListReaderConfig, DataType> m_tableReader;
 
+    /**
+     * The delta link of the last execution and the list it belongs to. These are
+     * kept on reset so that the next execution only reads the changes.
+     */
+    private String m_deltaListId;
+
+    private String m_deltaLink;
+
 
     SharepointListReaderNodeModel() {
         super(new PortType[] { CredentialPortObject.TYPE }, new PortType[] { BufferedDataTable.TYPE });
@@ -135,6 +157,21 @@ final class SharepointListReaderNodeModel extends NodeModel {
 
     @Override
     protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        final var readerConfig = m_config.getReaderSpecificConfig();
+        CheckUtils.checkSetting(
+                !(readerConfig.getDeltaSettings().isEnabled() && readerConfig.getFilterSettings().hasConditions()),
+                "The server-side row filter cannot be combined with reading only changes.");
+        CheckUtils.checkSetting(
+                !(readerConfig.getDeltaSettings().isEnabled() && readerConfig.getParallelReadSettings().isEnabled()),
+                "Reading in parallel cannot be combined with reading only changes.");
+        CheckUtils.checkSetting(
+                !(readerConfig.getDeltaSettings().isEnabled()
+                        && readerConfig.getMultiListSettings().getMode() != ListSelectionMode.SINGLE),
+                "Reading several lists cannot be combined with reading only changes.");
+        CheckUtils.checkSetting(
+                !(readerConfig.getDeltaSettings().isEnabled() && readerConfig.getLookupSettings().isResolve()),
+                "Resolving person and lookup columns cannot be combined with reading only changes.");
+
         if (m_config.hasTableSpecConfig()) {
             return new PortObjectSpec[] { m_config.getTableSpecConfig().getDataTableSpec() };
         }
@@ -152,9 +189,18 @@ final class SharepointListReaderNodeModel extends NodeModel {
 
         final var credSpec = ((CredentialPortObject) portObjects[0]).getSpec();
 
-        final var sourceGroup = createSourceGroup(credSpec,
-                m_config.getReaderSpecificConfig().getSharepointListSettings());
-        return new PortObject[] { m_tableReader.readTable(sourceGroup, m_config, exec) };
+        pushDownColumnSelection();
+        prepareDeltaLink();
+        final var clients = createClients(credSpec, m_config.getReaderSpecificConfig());
+        final BufferedDataTable table;
+        try {
+            table = m_tableReader.readTable(createSourceGroup(clients), m_config, exec);
+        } finally {
+            SharepointListClient.stopReading(clients);
+        }
+        setWarning(clients);
+        storeDeltaLink(clients);
+        return new PortObject[] { table };
     }
 
     @Override
@@ -169,25 +215,104 @@ final class SharepointListReaderNodeModel extends NodeModel {
                 final var credentialPortObjectSpec = (CredentialPortObjectSpec) ((PortObjectInput) inputs[0])
                         .getPortObject().getSpec();
 
-                final var sourceGroup = createSourceGroup(credentialPortObjectSpec,
-                        m_config.getReaderSpecificConfig().getSharepointListSettings());
-                m_tableReader.fillRowOutput(sourceGroup, m_config, (RowOutput) outputs[0], exec);
+                pushDownColumnSelection();
+                prepareDeltaLink();
+                final var clients = createClients(credentialPortObjectSpec, m_config.getReaderSpecificConfig());
+                try {
+                    m_tableReader.fillRowOutput(createSourceGroup(clients), m_config, (RowOutput) outputs[0],
+                            exec);
+                } finally {
+                    SharepointListClient.stopReading(clients);
+                }
+                setWarning(clients);
+                storeDeltaLink(clients);
             }
         };
     }
 
-    private static SourceGroup<SharepointListClient> createSourceGroup(
-            final CredentialPortObjectSpec credSpec, final SharepointListSettings settings)
-            throws NoSuchCredentialException, IOException {
+    /**
+     * Passes the names of the columns kept by the transformation to the reader so
+     * that only those fields are requested. If unknown columns are kept, all
+     * fields are needed.
+     */
+    private void pushDownColumnSelection() {
+        Set<String> selected = null;
+        if (m_config.hasTableSpecConfig()) {
+            final var transformation = m_config.getTableSpecConfig().getTableTransformation();
+            if (!transformation.keepUnknownColumns()) {
+                selected = transformation.stream() //
+                        .filter(ColumnTransformation::keep) //
+                        .map(t -> t.getExternalSpec().getName()) //
+                        .flatMap(Optional::stream) //
+                        .collect(Collectors.toUnmodifiableSet());
+            }
+        }
+        m_config.getReaderSpecificConfig().setSelectedColumns(selected);
+    }
+
+    /**
+     * Decides from which delta link on changes are read. A configured link takes
+     * precedence over the one of the last execution, which is only used if it
+     * belongs to the same list.
+     */
+    private void prepareDeltaLink() {
+        final var readerConfig = m_config.getReaderSpecificConfig();
+        final var delta = readerConfig.getDeltaSettings();
+        String link = null;
+        if (delta.isEnabled()) {
+            if (!delta.getDeltaLink().isEmpty()) {
+                link = delta.getDeltaLink();
+            } else if (getListId().equals(m_deltaListId)) {
+                link = m_deltaLink;
+            }
+        }
+        readerConfig.setDeltaLink(link);
+    }
+
+    private void storeDeltaLink(final List<SharepointListClient> clients) {
+        // delta queries are only possible for a single list
+        final var link = clients.get(0).getDeltaLink();
+        if (link.isPresent()) {
+            m_deltaListId = getListId();
+            m_deltaLink = link.get();
+            pushFlowVariableString(DELTA_LINK_VAR_NAME, m_deltaLink);
+        }
+    }
+
+    private String getListId() {
+        return m_config.getReaderSpecificConfig().getSharepointListSettings().getListSettings().getListModel()
+                .getStringValue();
+    }
+
+    private void setWarning(final List<SharepointListClient> clients) {
+        final var warning = clients.stream()//
+                .map(SharepointListClient::getWarning)//
+                .flatMap(Optional::stream)//
+                .distinct()//
+                .collect(Collectors.joining("\n"));
+        if (!warning.isEmpty()) {
+            setWarningMessage(warning);
+        }
+    }
+
+    private static List<SharepointListClient> createClients(final CredentialPortObjectSpec credSpec,
+            final SharepointListReaderConfig config) throws NoSuchCredentialException, IOException {
 
+        final var settings = config.getSharepointListSettings();
         final var timeouts = settings.getTimeoutSettings();
         final var graphClient = GraphApiUtil.createClient(//
                 GraphCredentialUtil.createAuthenticationProvider(credSpec), //,
                 timeouts.getConnectionTimeout(),//
                 timeouts.getReadTimeout());
 
-        return new DefaultSourceGroup<>("igraph_service_client_source_group",
-                Collections.singleton(new SharepointListClient(graphClient, settings)));
+        // all lists share the same client and thereby its connections
+        return SharepointListClient.createClients(graphClient,
+                GraphCredentialUtil.getCredentialIdentity(credSpec).orElse(null), settings,
+                config.getMultiListSettings());
+    }
+
+    private static SourceGroup<SharepointListClient> createSourceGroup(final List<SharepointListClient> clients) {
+        return new DefaultSourceGroup<>("igraph_service_client_source_group", clients);
     }
 
     @Override
@@ -196,13 +321,30 @@ final class SharepointListReaderNodeModel extends NodeModel {
     }
 
     @Override
-    protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec) {
+    protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec) throws IOException {
         setWarningMessage("Sharepoint connection no longer available. Please re-execute the node.");
+        final var file = new File(nodeInternDir, DELTA_FILE_NAME);
+        if (file.exists()) {
+            try (final var in = new FileInputStream(file)) {
+                final var settings = NodeSettings.loadFromXML(in);
+                m_deltaListId = settings.getString(KEY_DELTA_LIST_ID);
+                m_deltaLink = settings.getString(KEY_DELTA_LINK);
+            } catch (InvalidSettingsException e) {
+                throw new IOException("Could not load the delta link: " + e.getMessage(), e);
+            }
+        }
     }
 
     @Override
-    protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec) {
-        // no internals to load
+    protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec) throws IOException {
+        if (m_deltaLink != null) {
+            final var settings = new NodeSettings(DELTA_FILE_NAME);
+            settings.addString(KEY_DELTA_LIST_ID, m_deltaListId);
+            settings.addString(KEY_DELTA_LINK, m_deltaLink);
+            try (final var out = new FileOutputStream(new File(nodeInternDir, DELTA_FILE_NAME))) {
+                settings.saveToXML(out);
+            }
+        }
     }
 
     @Override
@@ -223,6 +365,7 @@ final class SharepointListReaderNodeModel extends NodeModel {
     @Override
     protected void reset() {
         m_tableReader.reset();
+        // the delta link is deliberately kept to only read changes on the next execution
     }
 
 }
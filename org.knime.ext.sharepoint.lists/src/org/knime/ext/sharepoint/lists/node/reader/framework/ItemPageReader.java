@@ -0,0 +1,189 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint.lists.node.reader.framework;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.google.gson.stream.JsonReader;
+import com.microsoft.graph.core.ClientException;
+import com.microsoft.graph.http.CustomRequest;
+import com.microsoft.graph.options.HeaderOption;
+import com.microsoft.graph.options.Option;
+import com.microsoft.graph.requests.GraphServiceClient;
+
+import okhttp3.Request;
+
+/**
+ * Requests pages of list items and decodes them while they are streamed from
+ * the response. Only the {@code fields} of each item and the
+ * {@code @odata.nextLink} are read, so no intermediate {@code ListItem} objects
+ * or JSON trees of whole pages are created.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+final class ItemPageReader {
+
+    /**
+     * A page of decoded rows.
+     *
+     * @param rows
+     *            the rows of the page
+     * @param nextLink
+     *            the link to the next page or {@code null} if this is the last
+     *            page
+     */
+    record ItemPage(List<Object[]> rows, String nextLink) {
+    }
+
+    private final GraphServiceClient<Request> m_client;
+
+    private final RowDecoder m_decoder;
+
+    private final LookupResolver m_lookupResolver;
+
+    /**
+     * @param client
+     *            the client used for the requests
+     * @param decoder
+     *            the decoder of the items
+     * @param lookupResolver
+     *            the resolver of person and lookup values of each page or
+     *            {@code null} if the item IDs are kept
+     */
+    ItemPageReader(final GraphServiceClient<Request> client, final RowDecoder decoder,
+            final LookupResolver lookupResolver) {
+        m_client = client;
+        m_decoder = decoder;
+        m_lookupResolver = lookupResolver;
+    }
+
+    /**
+     * Requests the first page of items.
+     *
+     * @param url
+     *            the URL of the item collection
+     * @param options
+     *            the header and query options of the request
+     * @return the page
+     */
+    ItemPage requestFirstPage(final String url, final List<Option> options) {
+        return request(url, options);
+    }
+
+    /**
+     * Requests the next page of items.
+     *
+     * @param page
+     *            the previous page
+     * @param options
+     *            the options of the first request; only the header options are
+     *            used because the next link already contains the query options
+     * @return the next page
+     */
+    ItemPage requestNextPage(final ItemPage page, final List<Option> options) {
+        return request(page.nextLink(), options.stream()//
+                .filter(HeaderOption.class::isInstance)//
+                .collect(Collectors.toList()));
+    }
+
+    private ItemPage request(final String url, final List<Option> options) {
+        try (final var in = new CustomRequest<>(url, m_client, options, InputStream.class).get();
+                final var reader = new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return readPage(reader);
+        } catch (IOException e) {
+            throw new ClientException("Could not read the list items: " + e.getMessage(), e);
+        }
+    }
+
+    private ItemPage readPage(final JsonReader reader) throws IOException {
+        final var rows = new ArrayList<Object[]>();
+        String nextLink = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final var name = reader.nextName();
+            if ("value".equals(name)) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    rows.add(readItem(reader));
+                }
+                reader.endArray();
+            } else if ("@odata.nextLink".equals(name)) {
+                nextLink = reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (m_lookupResolver != null) {
+            m_lookupResolver.resolve(rows);
+        }
+        return new ItemPage(rows, nextLink);
+    }
+
+    private Object[] readItem(final JsonReader reader) throws IOException {
+        final var row = m_decoder.createRow();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if ("fields".equals(reader.nextName())) {
+                m_decoder.decodeFields(reader, row);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return row;
+    }
+
+}
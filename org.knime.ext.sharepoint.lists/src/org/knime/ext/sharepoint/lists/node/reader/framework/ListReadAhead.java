@@ -0,0 +1,280 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-19 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint.lists.node.reader.framework;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.util.ThreadUtils;
+import org.knime.ext.sharepoint.lists.node.reader.SharepointListReaderConfig;
+import org.knime.ext.sharepoint.lists.node.reader.framework.SharepointListRead.RandomAccessibleDataRow;
+
+/**
+ * Reads the items of several lists concurrently while they are consumed one
+ * after the other. The lists are started in their order by a bounded pool of
+ * threads and each list hands over its items in chunks via a bounded queue, so
+ * the requests of the following lists overlap with the consumption of the
+ * current one without holding more than a few chunks per list in memory.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+final class ListReadAhead implements Closeable {
+
+    /** Number of items handed over at once. */
+    private static final int CHUNK_SIZE = 1000;
+
+    /** Number of chunks that may be buffered per list. */
+    private static final int CHUNKS_PER_LIST = 4;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private record Chunk(List<RandomAccessibleDataRow> rows, RuntimeException error) {
+
+        static final Chunk END = new Chunk(Collections.emptyList(), null);
+    }
+
+    private final List<SharepointListClient> m_clients;
+
+    private final int m_maxConcurrentLists;
+
+    private final Map<SharepointListClient, ListFeed> m_feeds = new IdentityHashMap<>();
+
+    private ExecutorService m_executor;
+
+    private SharepointListReaderConfig m_config;
+
+    /**
+     * @param clients
+     *            the clients of the lists in the order in which they are consumed
+     * @param maxConcurrentLists
+     *            the maximum number of lists read at the same time
+     */
+    ListReadAhead(final List<SharepointListClient> clients, final int maxConcurrentLists) {
+        m_clients = List.copyOf(clients);
+        m_maxConcurrentLists = maxConcurrentLists;
+    }
+
+    /**
+     * Returns the items of the given list. The first call starts reading all
+     * lists with the given configuration. Lists that are requested again or with
+     * another configuration are read directly.
+     *
+     * @param client
+     *            the client of the list
+     * @param config
+     *            the reader configuration
+     * @return the items of the list
+     * @throws IOException
+     *             if the items could not be requested
+     */
+    synchronized Iterator<RandomAccessibleDataRow> getItems(final SharepointListClient client,
+            final SharepointListReaderConfig config) throws IOException {
+        if (m_executor == null) {
+            start(config);
+        }
+        final var feed = config == m_config ? m_feeds.remove(client) : null;
+        if (feed == null) {
+            return client.readItems(config);
+        }
+        return feed.open();
+    }
+
+    private void start(final SharepointListReaderConfig config) {
+        m_config = config;
+        m_executor = Executors.newFixedThreadPool(Math.min(m_clients.size(), m_maxConcurrentLists), r -> {
+            final var thread = new Thread(r, "SharePoint-List-Reader-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // the pool starts the lists in the order in which they are consumed
+        for (final var client : m_clients) {
+            final var feed = new ListFeed();
+            feed.m_task = m_executor.submit(ThreadUtils.runnableWithContext(() -> feed.read(client, config)));
+            m_feeds.put(client, feed);
+        }
+        m_executor.shutdown();
+    }
+
+    /**
+     * Stops reading the lists whose items have not been requested yet.
+     */
+    @Override
+    public synchronized void close() {
+        if (m_executor != null) {
+            m_executor.shutdownNow();
+        }
+        m_feeds.clear();
+    }
+
+    /**
+     * The items of one list, read by a thread of the pool.
+     */
+    private static final class ListFeed implements Iterator<RandomAccessibleDataRow>, Closeable {
+
+        private final BlockingQueue<Chunk> m_queue = new ArrayBlockingQueue<>(CHUNKS_PER_LIST);
+
+        /** Completes once the items have been requested. */
+        private final CompletableFuture<Void> m_requested = new CompletableFuture<>();
+
+        private Future<?> m_task;
+
+        private Iterator<RandomAccessibleDataRow> m_rows = Collections.emptyIterator();
+
+        private boolean m_done;
+
+        private void read(final SharepointListClient client, final SharepointListReaderConfig config) {
+            Iterator<RandomAccessibleDataRow> items = null;
+            try {
+                try {
+                    items = client.readItems(config);
+                    m_requested.complete(null);
+                    var rows = new ArrayList<RandomAccessibleDataRow>(CHUNK_SIZE);
+                    while (items.hasNext()) {
+                        rows.add(items.next());
+                        if (rows.size() == CHUNK_SIZE) {
+                            m_queue.put(new Chunk(rows, null));
+                            rows = new ArrayList<>(CHUNK_SIZE);
+                        }
+                    }
+                    m_queue.put(new Chunk(rows, null));
+                    m_queue.put(Chunk.END);
+                } catch (IOException e) { // NOSONAR handed over to the reading thread
+                    m_requested.completeExceptionally(e);
+                } catch (RuntimeException e) { // NOSONAR handed over to the reading thread
+                    if (!m_requested.completeExceptionally(e)) {
+                        m_queue.put(new Chunk(Collections.emptyList(), e));
+                    }
+                }
+            } catch (InterruptedException e) { // NOSONAR the reader has been closed
+                Thread.currentThread().interrupt();
+            } finally {
+                // does nothing if the items have been requested
+                m_requested.completeExceptionally(new IOException("Reading the list has been stopped."));
+                if (items instanceof Closeable closeable) {
+                    try {
+                        closeable.close();
+                    } catch (IOException e) { // NOSONAR nothing left to read
+                    }
+                }
+            }
+        }
+
+        private ListFeed open() throws IOException {
+            try {
+                m_requested.get();
+                return this;
+            } catch (InterruptedException e) {
+                close();
+                Thread.currentThread().interrupt();
+                throw new IOException("Reading the list has been interrupted.", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException ioe) {
+                    throw ioe;
+                }
+                throw new IOException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!m_rows.hasNext()) {
+                if (m_done) {
+                    return false;
+                }
+                final var chunk = take();
+                if (chunk.error() != null) {
+                    throw chunk.error();
+                } else if (chunk == Chunk.END) {
+                    m_done = true;
+                } else {
+                    m_rows = chunk.rows().iterator();
+                }
+            }
+            return true;
+        }
+
+        private Chunk take() {
+            try {
+                return m_queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Reading the list has been interrupted.", e);
+            }
+        }
+
+        @Override
+        public RandomAccessibleDataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return m_rows.next();
+        }
+
+        @Override
+        public void close() {
+            m_task.cancel(true);
+        }
+    }
+
+}
@@ -0,0 +1,388 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint.lists.node.reader.framework;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.ext.sharepoint.lists.node.reader.framework.SharepointListColumn.LookupTypedColumn;
+import org.knime.ext.sharepoint.lists.node.reader.framework.SharepointListColumn.PersonTypedColumn;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.graph.core.ClientException;
+import com.microsoft.graph.http.CustomRequest;
+import com.microsoft.graph.http.HttpMethod;
+import com.microsoft.graph.options.HeaderOption;
+import com.microsoft.graph.options.QueryOption;
+import com.microsoft.graph.requests.GraphServiceClient;
+
+import okhttp3.Request;
+
+/**
+ * Replaces the item IDs of {@link PersonTypedColumn person} and
+ * {@link LookupTypedColumn lookup} columns with the values they reference. The
+ * distinct IDs of a page which are not cached yet are requested together using
+ * JSON batching, i.e. one request per {@value #MAX_BATCH_SIZE} distinct values.
+ * Resolved values are kept in an LRU cache shared by all pages and columns.
+ * Instances are thread-safe and can be shared by concurrent reads.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+final class LookupResolver {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(LookupResolver.class);
+
+    /** https://learn.microsoft.com/en-us/graph/json-batching, limit is 20 requests. */
+    private static final int MAX_BATCH_SIZE = 20;
+
+    private static final int CACHE_SIZE = 10_000;
+
+    /** Internal name of the hidden list containing the users of a site. */
+    private static final String USER_INFORMATION_LIST = "users";
+
+    /** Field of the “User Information List” containing the display name. */
+    private static final String USER_NAME_FIELD = "Title";
+
+    private static final int STATUS_OK = 200;
+
+    private static final int STATUS_THROTTLED = 429;
+
+    private static final int STATUS_UNAVAILABLE = 503;
+
+    private static final int MAX_RETRIES = 5;
+
+    private static final long DEFAULT_RETRY_AFTER = 5;
+
+    private static final List<HeaderOption> HEADERS = List.of(new HeaderOption("Content-Type", "application/json"));
+
+    /** Marks references to items that do not exist or cannot be read. */
+    private static final String UNRESOLVED = new String(); // NOSONAR identity is used
+
+    /**
+     * A column whose values are resolved.
+     *
+     * @param index
+     *            the index of the column in the row
+     * @param listId
+     *            the ID of the referenced list or {@code null} for the “User
+     *            Information List”
+     * @param field
+     *            the field of the referenced list
+     */
+    private record Target(int index, String listId, String field) {
+    }
+
+    private final GraphServiceClient<Request> m_client;
+
+    private final String m_siteId;
+
+    private final List<Target> m_targets;
+
+    private final Map<String, String> m_cache = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Entry<String, String> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private String m_userListId;
+
+    /**
+     * @param client
+     *            the client used for the requests
+     * @param siteId
+     *            the ID of the site containing the list
+     * @param columns
+     *            the columns of the list in the order of the row
+     */
+    LookupResolver(final GraphServiceClient<Request> client, final String siteId,
+            final List<SharepointListColumn<?>> columns) {
+        m_client = client;
+        m_siteId = siteId;
+        m_targets = new ArrayList<>();
+        for (var i = 0; i < columns.size(); i++) {
+            final var column = columns.get(i);
+            if (column instanceof PersonTypedColumn) {
+                m_targets.add(new Target(i, null, USER_NAME_FIELD));
+            } else if (column instanceof LookupTypedColumn lookup && lookup.m_listID != null
+                    && lookup.m_columnName != null) {
+                m_targets.add(new Target(i, lookup.m_listID, lookup.m_columnName));
+            }
+        }
+    }
+
+    /**
+     * @return whether the list has any columns whose values are resolved
+     */
+    boolean hasTargets() {
+        return !m_targets.isEmpty();
+    }
+
+    /**
+     * Replaces the referenced item IDs in the given rows with the referenced
+     * values. References that cannot be resolved become missing values.
+     *
+     * @param rows
+     *            the decoded rows of a page
+     */
+    void resolve(final List<Object[]> rows) {
+        // collect the distinct uncached IDs per referenced list and field
+        final var missing = new LinkedHashMap<Target, Set<String>>();
+        for (final var target : m_targets) {
+            final var ids = new LinkedHashSet<String>();
+            for (final var row : rows) {
+                forEachId(row[target.index()], id -> {
+                    if (getCached(target, id) == null) {
+                        ids.add(id);
+                    }
+                });
+            }
+            if (!ids.isEmpty()) {
+                missing.merge(new Target(-1, target.listId(), target.field()), ids, (a, b) -> {
+                    a.addAll(b);
+                    return a;
+                });
+            }
+        }
+        for (final var entry : missing.entrySet()) {
+            fetch(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+
+        for (final var target : m_targets) {
+            for (final var row : rows) {
+                row[target.index()] = replace(target, row[target.index()]);
+            }
+        }
+    }
+
+    private static void forEachId(final Object value, final Consumer<String> consumer) {
+        if (value instanceof String[] ids) {
+            for (final var id : ids) {
+                consumer.accept(id);
+            }
+        } else if (value != null) {
+            consumer.accept(value.toString());
+        }
+    }
+
+    private Object replace(final Target target, final Object value) {
+        if (value instanceof String[] ids) {
+            final var result = new ArrayList<String>(ids.length);
+            for (final var id : ids) {
+                final var resolved = getCached(target, id);
+                if (resolved != null && resolved != UNRESOLVED) { // NOSONAR identity is intended
+                    result.add(resolved);
+                }
+            }
+            return result.isEmpty() ? null : result.toArray(String[]::new);
+        } else if (value != null) {
+            final var resolved = getCached(target, value.toString());
+            return resolved == UNRESOLVED ? null : resolved; // NOSONAR identity is intended
+        }
+        return null;
+    }
+
+    private static String key(final Target target, final String id) {
+        return target.listId() + '/' + target.field() + '/' + id;
+    }
+
+    private String getCached(final Target target, final String id) {
+        synchronized (m_cache) {
+            return m_cache.get(key(target, id));
+        }
+    }
+
+    private void putCached(final Target target, final String id, final String value) {
+        synchronized (m_cache) {
+            m_cache.put(key(target, id), value);
+        }
+    }
+
+    private void fetch(final Target target, final List<String> ids) {
+        final var listId = target.listId() != null ? target.listId() : getUserListId();
+        if (listId == null) {
+            ids.forEach(id -> putCached(target, id, UNRESOLVED));
+            return;
+        }
+        final var itemsUrl = m_client.sites(m_siteId).lists(listId).items().getRequestUrl();
+        final var relativeUrl = itemsUrl.substring(m_client.getServiceRoot().length());
+        final var query = "?$select=id&$expand=fields($select=" + target.field() + ")";
+        for (var start = 0; start < ids.size(); start += MAX_BATCH_SIZE) {
+            final var pending = new HashMap<String, String>();
+            for (final var id : ids.subList(start, Math.min(start + MAX_BATCH_SIZE, ids.size()))) {
+                pending.put(id, relativeUrl + "/" + id + query);
+            }
+            sendBatch(target, pending);
+        }
+    }
+
+    /**
+     * Sends a batch of item requests and caches the results. Throttled requests
+     * are retried, all other failed requests are cached as unresolved.
+     */
+    private void sendBatch(final Target target, final Map<String, String> pending) {
+        for (var attempt = 0; !pending.isEmpty(); attempt++) {
+            final var requests = new JsonArray(pending.size());
+            for (final var entry : pending.entrySet()) {
+                final var request = new JsonObject();
+                request.addProperty("id", entry.getKey());
+                request.addProperty("method", "GET");
+                request.addProperty("url", entry.getValue());
+                requests.add(request);
+            }
+            final var body = new JsonObject();
+            body.add("requests", requests);
+
+            final var responses = new BatchRequest().post(body).getAsJsonObject().getAsJsonArray("responses");
+            long retryAfter = 0;
+            for (final var element : responses) {
+                final var response = element.getAsJsonObject();
+                final var id = response.get("id").getAsString();
+                final var status = response.get("status").getAsInt();
+                if (status == STATUS_OK) {
+                    putCached(target, id, getField(response, target.field()).orElse(UNRESOLVED));
+                    pending.remove(id);
+                } else if ((status == STATUS_THROTTLED || status == STATUS_UNAVAILABLE) && attempt < MAX_RETRIES) {
+                    retryAfter = Math.max(retryAfter, getRetryAfter(response));
+                } else {
+                    LOGGER.debugWithFormat("Could not resolve item %s of list %s: status %d", id, target.listId(),
+                            status);
+                    putCached(target, id, UNRESOLVED);
+                    pending.remove(id);
+                }
+            }
+            if (!pending.isEmpty()) {
+                waitFor(retryAfter);
+            }
+        }
+    }
+
+    private static Optional<String> getField(final JsonObject response, final String field) {
+        final var body = response.getAsJsonObject("body");
+        final var fields = body == null ? null : body.getAsJsonObject("fields");
+        final var value = fields == null ? null : fields.get(field);
+        if (value == null || value.isJsonNull()) {
+            return Optional.empty();
+        }
+        return Optional.of(value.isJsonPrimitive() ? value.getAsString() : value.toString());
+    }
+
+    private static long getRetryAfter(final JsonObject response) {
+        final var headers = response.getAsJsonObject("headers");
+        final var retryAfter = headers == null ? null : headers.get("Retry-After");
+        try {
+            return retryAfter == null ? DEFAULT_RETRY_AFTER : retryAfter.getAsLong();
+        } catch (NumberFormatException e) { // NOSONAR fall back to the default
+            return DEFAULT_RETRY_AFTER;
+        }
+    }
+
+    private static void waitFor(final long seconds) {
+        try {
+            TimeUnit.SECONDS.sleep(seconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClientException("Resolving lookup values has been interrupted.", e);
+        }
+    }
+
+    /**
+     * @return the ID of the “User Information List” of the site or {@code null}
+     *         if it cannot be accessed
+     */
+    private synchronized String getUserListId() {
+        if (m_userListId == null) {
+            var resp = m_client.sites(m_siteId).lists()//
+                    .buildRequest(List.of(new QueryOption("select", "system,id,name")))//
+                    .get();
+            while (m_userListId == null && resp != null) {
+                m_userListId = resp.getCurrentPage().stream()//
+                        .filter(l -> USER_INFORMATION_LIST.equals(l.name))//
+                        .map(l -> l.id)//
+                        .findFirst()//
+                        .orElse(null);
+                resp = resp.getNextPage() == null ? null : resp.getNextPage().buildRequest().get();
+            }
+            if (m_userListId == null) {
+                LOGGER.warn("The \"User Information List\" could not be found, person columns are not resolved.");
+                m_userListId = "";
+            }
+        }
+        return m_userListId.isEmpty() ? null : m_userListId;
+    }
+
+    private final class BatchRequest extends CustomRequest<JsonElement> {
+
+        BatchRequest() {
+            super(m_client.getServiceRoot() + "/$batch", m_client, HEADERS, JsonElement.class);
+        }
+
+        @Override
+        public JsonElement post(final JsonElement newObject) throws ClientException {
+            // pass the bytes to skip the serialization of the request body
+            return send(HttpMethod.POST, newObject.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint.lists.node.reader.framework;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.knime.core.util.ThreadUtils;
+import org.knime.ext.sharepoint.lists.node.reader.framework.SharepointListRead.RandomAccessibleDataRow;
+
+import com.microsoft.graph.options.Option;
+
+/**
+ * {@link Iterator} that reads several partitions of a list concurrently. Each
+ * partition is read page by page by its own thread and the decoded pages are
+ * handed over via bounded queues, which limits the number of pages held in
+ * memory. The rows are either returned in the order of the partitions or in
+ * the order in which the pages arrive.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+final class PartitionedItemIterator implements Iterator<RandomAccessibleDataRow>, Closeable {
+
+    /** Number of pages that may be buffered per partition. */
+    private static final int PAGES_PER_PARTITION = 4;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private record Chunk(List<RandomAccessibleDataRow> rows, RuntimeException error) {
+
+        static final Chunk END = new Chunk(Collections.emptyList(), null);
+    }
+
+    private final ExecutorService m_executor;
+
+    private final List<BlockingQueue<Chunk>> m_queues;
+
+    private final int m_endsPerQueue;
+
+    private int m_queueIndex = 0;
+
+    private int m_pendingEnds;
+
+    private Iterator<RandomAccessibleDataRow> m_rows = Collections.emptyIterator();
+
+    /**
+     * @param partitionOptions
+     *            the request options of each partition
+     * @param url
+     *            the URL of the item collection
+     * @param pageReader
+     *            the reader used to request and decode the pages
+     * @param keepOrder
+     *            whether the rows are returned in the order of the partitions, in
+     *            which case each later partition stops reading once
+     *            {@value #PAGES_PER_PARTITION} of its pages are buffered
+     */
+    PartitionedItemIterator(final List<List<Option>> partitionOptions, final String url,
+            final ItemPageReader pageReader, final boolean keepOrder) {
+        final var partitions = partitionOptions.size();
+        if (keepOrder) {
+            m_queues = IntStream.range(0, partitions)//
+                    .mapToObj(i -> (BlockingQueue<Chunk>) new ArrayBlockingQueue<Chunk>(PAGES_PER_PARTITION))//
+                    .collect(Collectors.toList());
+            m_endsPerQueue = 1;
+        } else {
+            m_queues = List.of(new ArrayBlockingQueue<>(PAGES_PER_PARTITION * partitions));
+            m_endsPerQueue = partitions;
+        }
+        m_pendingEnds = m_endsPerQueue;
+
+        m_executor = Executors.newFixedThreadPool(partitions, r -> {
+            final var thread = new Thread(r, "SharePoint-List-Reader-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (var i = 0; i < partitions; i++) {
+            final var options = partitionOptions.get(i);
+            final var queue = m_queues.get(keepOrder ? i : 0);
+            m_executor.execute(
+                    ThreadUtils.runnableWithContext(() -> readPartition(url, options, pageReader, queue)));
+        }
+        m_executor.shutdown();
+    }
+
+    private static void readPartition(final String url, final List<Option> options,
+            final ItemPageReader pageReader, final BlockingQueue<Chunk> queue) {
+        try {
+            try {
+                var page = pageReader.requestFirstPage(url, options);
+                while (true) {
+                    final var rows = page.rows().stream()//
+                            .map(RandomAccessibleDataRow::new)//
+                            .collect(Collectors.toList());
+                    queue.put(new Chunk(rows, null));
+                    if (page.nextLink() == null) {
+                        break;
+                    }
+                    page = pageReader.requestNextPage(page, options);
+                }
+                queue.put(Chunk.END);
+            } catch (RuntimeException e) { // NOSONAR handed over to the reading thread
+                queue.put(new Chunk(Collections.emptyList(), e));
+            }
+        } catch (InterruptedException e) { // NOSONAR the reader has been closed
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!m_rows.hasNext()) {
+            if (m_queueIndex >= m_queues.size()) {
+                return false;
+            }
+            final var chunk = take(m_queues.get(m_queueIndex));
+            if (chunk.error() != null) {
+                throw chunk.error();
+            } else if (chunk == Chunk.END) {
+                m_pendingEnds--;
+                if (m_pendingEnds == 0) {
+                    m_queueIndex++;
+                    m_pendingEnds = m_endsPerQueue;
+                }
+            } else {
+                m_rows = chunk.rows().iterator();
+            }
+        }
+        return true;
+    }
+
+    private static Chunk take(final BlockingQueue<Chunk> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reading the list has been interrupted.", e);
+        }
+    }
+
+    @Override
+    public RandomAccessibleDataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return m_rows.next();
+    }
+
+    @Override
+    public void close() {
+        m_executor.shutdownNow();
+    }
+
+}
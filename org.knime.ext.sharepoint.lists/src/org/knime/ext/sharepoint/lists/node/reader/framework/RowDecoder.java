@@ -0,0 +1,193 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint.lists.node.reader.framework;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Decodes the fields of list items into rows of the columns of a list. The
+ * column of a field name is resolved only once: field names are case folded
+ * when they are encountered for the first time and the result is cached for
+ * the exact name, so decoding an item only needs a single lookup per field.
+ * Instances are thread-safe and can be shared by concurrent reads.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+final class RowDecoder {
+
+    private static final String ID_FIELD = "id";
+
+    /**
+     * Slot of a column in the decoded row.
+     */
+    private static final class Slot {
+
+        private final int m_index;
+
+        private final SharepointListColumn<?> m_column;
+
+        Slot(final int index, final SharepointListColumn<?> column) {
+            m_index = index;
+            m_column = column;
+        }
+    }
+
+    /** Marks field names that do not belong to any column. */
+    private static final Slot UNKNOWN = new Slot(-1, null);
+
+    private final Map<String, Slot> m_slotsByIdName;
+
+    private final Map<String, Slot> m_slotsByFieldName = new ConcurrentHashMap<>();
+
+    private final int m_idIndex;
+
+    private final int m_size;
+
+    /**
+     * @param columns
+     *            the columns of the list in the order of the row
+     * @param additionalSlots
+     *            the number of additional values at the end of each row that
+     *            are not decoded from the fields
+     */
+    RowDecoder(final List<SharepointListColumn<?>> columns, final int additionalSlots) {
+        m_slotsByIdName = new HashMap<>();
+        for (var i = 0; i < columns.size(); i++) {
+            // if the ID names are not unique the last column wins
+            m_slotsByIdName.put(columns.get(i).getIdName(), new Slot(i, columns.get(i)));
+        }
+        m_idIndex = m_slotsByIdName.getOrDefault(ID_FIELD, UNKNOWN).m_index;
+        m_size = columns.size() + additionalSlots;
+    }
+
+    /**
+     * @return a new empty row including the additional slots
+     */
+    Object[] createRow() {
+        return new Object[m_size];
+    }
+
+    /**
+     * Sets the value of the ID column if it is part of the row.
+     *
+     * @param row
+     *            the row
+     * @param id
+     *            the item ID
+     */
+    void setId(final Object[] row, final String id) {
+        if (m_idIndex >= 0) {
+            row[m_idIndex] = id;
+        }
+    }
+
+    /**
+     * Decodes the values of fields into the slots of their columns. Fields that
+     * do not belong to a column are ignored.
+     *
+     * @param fields
+     *            the fields of an item
+     * @param row
+     *            the row
+     */
+    void decodeFields(final Set<Entry<String, JsonElement>> fields, final Object[] row) {
+        for (final var field : fields) {
+            final var slot = getSlot(field.getKey());
+            if (slot != UNKNOWN) {
+                row[slot.m_index] = slot.m_column.getCanonicalRepresentation(field.getValue());
+            }
+        }
+    }
+
+    /**
+     * Decodes the fields of an item from a JSON stream into the slots of their
+     * columns. Only the values of fields belonging to a column are parsed, all
+     * others are skipped.
+     *
+     * @param reader
+     *            the reader positioned at the start of the {@code fields} object
+     * @param row
+     *            the row
+     * @throws IOException
+     *             if the JSON could not be read
+     */
+    void decodeFields(final JsonReader reader, final Object[] row) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final var slot = getSlot(reader.nextName());
+            if (slot == UNKNOWN || reader.peek() == JsonToken.NULL) {
+                reader.skipValue();
+            } else {
+                row[slot.m_index] = slot.m_column.getCanonicalRepresentation(JsonParser.parseReader(reader));
+            }
+        }
+        reader.endObject();
+    }
+
+    private Slot getSlot(final String fieldName) {
+        final var slot = m_slotsByFieldName.get(fieldName);
+        if (slot != null) {
+            return slot;
+        }
+        return m_slotsByFieldName.computeIfAbsent(fieldName,
+                n -> m_slotsByIdName.getOrDefault(n.toLowerCase(), UNKNOWN)); // same as the ID name
+    }
+
+}
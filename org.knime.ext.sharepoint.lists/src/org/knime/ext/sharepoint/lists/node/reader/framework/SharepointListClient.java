@@ -49,36 +49,56 @@
 package org.knime.ext.sharepoint.lists.node.reader.framework;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
-import org.knime.core.util.Pair;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadUtils;
 import org.knime.ext.sharepoint.SharepointSiteResolver;
+import org.knime.ext.sharepoint.lists.node.ListMetadataCache;
 import org.knime.ext.sharepoint.lists.node.SharepointListSettings;
 import org.knime.ext.sharepoint.lists.node.SharepointListSettingsPanel.ListSettings;
+import org.knime.ext.sharepoint.lists.node.reader.ListSelectionMode;
+import org.knime.ext.sharepoint.lists.node.reader.SharepointListDeltaSettings;
+import org.knime.ext.sharepoint.lists.node.reader.SharepointListFilterSettings;
+import org.knime.ext.sharepoint.lists.node.reader.SharepointListMultiListSettings;
+import org.knime.ext.sharepoint.lists.node.reader.SharepointListReaderConfig;
+import org.knime.ext.sharepoint.lists.node.reader.framework.ItemPageReader.ItemPage;
 import org.knime.ext.sharepoint.lists.node.reader.framework.SharepointListRead.RandomAccessibleDataRow;
 import org.knime.ext.sharepoint.settings.SiteSettings;
 import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.graph.http.CustomRequest;
 import com.microsoft.graph.http.GraphServiceException;
 import com.microsoft.graph.models.ColumnDefinition;
-import com.microsoft.graph.models.ListItem;
+import com.microsoft.graph.options.HeaderOption;
 import com.microsoft.graph.options.Option;
 import com.microsoft.graph.options.QueryOption;
 import com.microsoft.graph.requests.ColumnDefinitionCollectionPage;
 import com.microsoft.graph.requests.GraphServiceClient;
-import com.microsoft.graph.requests.ListItemCollectionPage;
 
 import okhttp3.Request;
 
@@ -95,7 +115,25 @@ public final class SharepointListClient {
 
     private static final Predicate<SharepointListColumn<?>> ALLOWED = c -> !DISALLOW_LIST.contains(c.getIdName());
 
-    private static final Pair<Integer, SharepointListColumn<?>> MISSING = Pair.create(-1, null);
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(SharepointListClient.class);
+
+    /** Partitions are not smaller than the default page size of the API. */
+    private static final int MIN_PARTITION_SIZE = 200;
+
+    /**
+     * Header allowing filters on non-indexed columns. Those requests can fail if
+     * the list exceeds the list view threshold.
+     */
+    private static final HeaderOption HEADER_NON_INDEXED = new HeaderOption("Prefer",
+            "HonorNonIndexedQueriesWarningMayFailRandomly");
+
+    private static final List<Option> OPTIONS_LISTS = Collections
+            .singletonList(new QueryOption("select", "id,displayName,name"));
+
+    /** Maximum number of lists whose columns are requested concurrently. */
+    private static final int MAX_CONCURRENT_LISTS = 8;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
 
     private List<SharepointListColumn<?>> m_columns;
 
@@ -105,26 +143,229 @@ public final class SharepointListClient {
 
     private String m_listId;
 
+    /** Resolves the site from the settings, {@code null} if the target is fixed. */
+    private SharepointSiteResolver m_siteResolver;
+
+    /** Whether site and list have been resolved upfront and are not taken from the settings. */
+    private final boolean m_fixedTarget;
+
+    private final String m_sourceName;
+
+    /** The identity used to share cached metadata, {@code null} if unknown. */
+    private final String m_identity;
+
     private int m_settingsHash;
 
     private SiteSettings m_siteSettings;
 
     private ListSettings m_listSettings;
 
+    private String m_warning;
+
+    private String m_deltaLink;
+
+    private OptionalLong m_itemCountEstimate = OptionalLong.empty();
+
+    /** Reads the items ahead if several lists are read, {@code null} otherwise. */
+    private ListReadAhead m_readAhead;
+
     /**
      * Create an object used to setup and get information from the Microsoft Graph
      * API.
      *
      * @param client
      *            the {@link GraphServiceClient} used to make the API calls
+     * @param identity
+     *            the credential identity used to share cached list metadata or
+     *            {@code null} to not use the cache
      * @param settings
      *            the {@link SharepointListSettings} used to setup the client
      */
-    public SharepointListClient(final GraphServiceClient<Request> client, final SharepointListSettings settings) {
+    public SharepointListClient(final GraphServiceClient<Request> client, final String identity,
+            final SharepointListSettings settings) {
         m_client = client;
+        m_identity = identity;
+        m_fixedTarget = false;
+        m_sourceName = null;
         updateSiteAndListSettings(settings);
     }
 
+    /**
+     * Create an object used to get information about an already resolved list.
+     *
+     * @param client
+     *            the {@link GraphServiceClient} used to make the API calls, which
+     *            may be shared with other instances
+     * @param identity
+     *            the credential identity used to share cached list metadata or
+     *            {@code null} to not use the cache
+     * @param settings
+     *            the {@link SharepointListSettings} used to setup the client, the
+     *            site and list selection is ignored
+     * @param siteId
+     *            the ID of the site containing the list
+     * @param listId
+     *            the ID of the list
+     * @param sourceName
+     *            the name identifying the list in the output
+     */
+    private SharepointListClient(final GraphServiceClient<Request> client, final String identity,
+            final SharepointListSettings settings, final String siteId, final String listId,
+            final String sourceName) {
+        m_client = client;
+        m_identity = identity;
+        m_fixedTarget = true;
+        m_siteId = siteId;
+        m_listId = listId;
+        m_sourceName = sourceName;
+        updateSiteAndListSettings(settings);
+    }
+
+    /**
+     * Creates the clients for all lists selected by the
+     * {@link SharepointListMultiListSettings}. All clients share the given
+     * {@link GraphServiceClient}, the site is only resolved once and the columns
+     * of the lists are requested concurrently.
+     *
+     * @param client
+     *            the {@link GraphServiceClient} used to make the API calls
+     * @param identity
+     *            the credential identity used to share cached list metadata or
+     *            {@code null} to not use the cache
+     * @param settings
+     *            the {@link SharepointListSettings} deciding the site
+     * @param multiListSettings
+     *            the {@link SharepointListMultiListSettings} deciding the lists
+     * @return the clients, one for each list, in the order of the lists
+     * @throws IOException
+     *             if the lists could not be determined or a list does not exist
+     */
+    public static List<SharepointListClient> createClients(final GraphServiceClient<Request> client,
+            final String identity, final SharepointListSettings settings,
+            final SharepointListMultiListSettings multiListSettings) throws IOException {
+        if (multiListSettings.getMode() == ListSelectionMode.SINGLE) {
+            return List.of(new SharepointListClient(client, identity, settings));
+        }
+
+        final var siteSettings = settings.getSiteSettings();
+        final var siteResolver = new SharepointSiteResolver(client, identity, siteSettings.getMode(),
+                siteSettings.getSubsiteModel().getStringValue(), siteSettings.getWebURLModel().getStringValue(),
+                siteSettings.getGroupModel().getStringValue());
+        var siteId = siteResolver.getTargetSiteId();
+        List<com.microsoft.graph.models.List> lists;
+        try {
+            lists = listLists(client, siteId);
+        } catch (SiteNotFoundException e) { // NOSONAR the cached site ID is outdated
+            siteResolver.invalidate();
+            siteId = siteResolver.getTargetSiteId();
+            lists = listLists(client, siteId);
+        }
+
+        final var clients = new ArrayList<SharepointListClient>();
+        if (multiListSettings.getMode() == ListSelectionMode.PATTERN) {
+            final var pattern = multiListSettings.getNamePattern();
+            lists.stream()//
+                    .filter(l -> pattern.matcher(l.displayName).matches() || pattern.matcher(l.name).matches())//
+                    .sorted(Comparator.comparing(l -> l.displayName))//
+                    .forEach(l -> clients
+                            .add(new SharepointListClient(client, identity, settings, siteId, l.id, l.displayName)));
+            if (clients.isEmpty()) {
+                throw new IOException("No list matches the pattern \"" + multiListSettings.getNamePattern().pattern()
+                        + "\".");
+            }
+        } else {
+            for (final var idOrName : multiListSettings.getLists()) {
+                final var list = lists.stream()//
+                        .filter(l -> idOrName.equals(l.id) || idOrName.equalsIgnoreCase(l.name))//
+                        .findFirst()//
+                        .orElseThrow(() -> new IOException("The list \"" + idOrName + "\" does not exist."));
+                clients.add(new SharepointListClient(client, identity, settings, siteId, list.id, list.displayName));
+            }
+        }
+
+        prefetchColumns(clients, settings);
+        if (clients.size() > 1) {
+            final var readAhead = new ListReadAhead(clients, MAX_CONCURRENT_LISTS);
+            clients.forEach(c -> c.m_readAhead = readAhead);
+        }
+        return clients;
+    }
+
+    private static List<com.microsoft.graph.models.List> listLists(final GraphServiceClient<Request> client,
+            final String siteId) throws IOException {
+        final var result = new ArrayList<com.microsoft.graph.models.List>();
+        try {
+            var resp = client.sites(siteId).lists().buildRequest(OPTIONS_LISTS).get();
+            result.addAll(resp.getCurrentPage());
+            while (resp.getNextPage() != null) {
+                resp = resp.getNextPage().buildRequest().get();
+                result.addAll(resp.getCurrentPage());
+            }
+        } catch (GraphServiceException e) {
+            if (e.getResponseCode() == 404) {
+                throw new SiteNotFoundException(e);
+            }
+            throw new IOException("Could not read the lists of the site: " + e.getError().error.message, e);
+        }
+        return result;
+    }
+
+    /**
+     * Thrown by {@link SharepointListClient#listLists} if the site does not exist
+     * (anymore).
+     */
+    private static final class SiteNotFoundException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        SiteNotFoundException(final GraphServiceException cause) {
+            super("The site could not be found: " + cause.getError().error.message, cause);
+        }
+    }
+
+    /**
+     * Requests the columns of the given clients concurrently so that the specs of
+     * the lists can be computed without waiting for each list in turn.
+     */
+    private static void prefetchColumns(final List<SharepointListClient> clients,
+            final SharepointListSettings settings) throws IOException {
+        if (clients.size() < 2) {
+            return;
+        }
+        final var executor = Executors.newFixedThreadPool(Math.min(clients.size(), MAX_CONCURRENT_LISTS), r -> {
+            final var thread = new Thread(r, "SharePoint-List-Columns-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final var futures = new ArrayList<Future<List<SharepointListColumn<?>>>>();
+            for (final var c : clients) {
+                futures.add(executor.submit(ThreadUtils.callableWithContext(() -> c.getColumns(settings))));
+            }
+            for (final var future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Reading the columns has been interrupted.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the name identifying the read list in the output, i.e. its display
+     *         name if the list has been resolved upfront and otherwise the name
+     *         stored in the settings
+     */
+    public String getSourceName() {
+        return m_sourceName != null ? m_sourceName : m_listSettings.getListNameModel().getStringValue();
+    }
+
     /**
      * Closes this client and releases its resources.
      */
@@ -152,43 +393,307 @@ public final class SharepointListClient {
         if (m_columns == null || m_listSettings.hashCode() != m_settingsHash) {
             m_settingsHash = m_listSettings.hashCode();
             try {
-                m_columns = StreamSupport
-                        .stream(Spliterators.spliteratorUnknownSize(new ColumnIterator(),
-                                Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL), false)//
-                        .map(SharepointListColumn::of)//
-                        .filter(ALLOWED)//
-                        .collect(Collectors.toUnmodifiableList());
-                // check for columns with duplicate display names and make the column names
-                // unique if necessary
-                final var columnNames = new LinkedHashMap<String, List<SharepointListColumn<?>>>();
-                for (final var col : m_columns) {
-                    columnNames.computeIfAbsent(col.getDisplayName(), k -> new LinkedList<>()).add(col);
-                }
-                columnNames.values().stream()//
-                        .filter(l -> l.size() >= 2)//
-                        .flatMap(List::stream)//
-                        .forEach(SharepointListColumn::makeColumnNameUnique);
+                m_columns = readColumns();
             } catch (GraphServiceException e) {
-                throw new IOException("Could not read list: " + e.getError().error.message, e);
+                if (e.getResponseCode() != 404 || m_siteResolver == null) {
+                    throw new IOException("Could not read list: " + e.getError().error.message, e);
+                }
+                // the cached site ID may be outdated, resolve the site again and retry once
+                ListMetadataCache.invalidateList(m_identity, m_siteId, m_listId);
+                m_siteResolver.invalidate();
+                m_siteId = m_siteResolver.getTargetSiteId();
+                try {
+                    m_columns = readColumns();
+                } catch (GraphServiceException e2) {
+                    throw new IOException("Could not read list: " + e2.getError().error.message, e2);
+                }
             }
         }
 
         return m_columns;
     }
 
+    private List<SharepointListColumn<?>> readColumns() throws IOException {
+        final List<SharepointListColumn<?>> columns = ListMetadataCache.getColumns(m_identity, m_client, m_siteId,
+                m_listId, this::loadColumnDefinitions).stream()//
+                .map(SharepointListColumn::of)//
+                .filter(ALLOWED)//
+                .collect(Collectors.toUnmodifiableList());
+        // check for columns with duplicate display names and make the column names
+        // unique if necessary
+        final var columnNames = new LinkedHashMap<String, List<SharepointListColumn<?>>>();
+        for (final var col : columns) {
+            columnNames.computeIfAbsent(col.getDisplayName(), k -> new LinkedList<>()).add(col);
+        }
+        columnNames.values().stream()//
+                .filter(l -> l.size() >= 2)//
+                .flatMap(List::stream)//
+                .forEach(SharepointListColumn::makeColumnNameUnique);
+        return columns;
+    }
+
+    private List<ColumnDefinition> loadColumnDefinitions() {
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(new ColumnIterator(),
+                        Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL), false)//
+                .collect(Collectors.toList());
+    }
+
     /**
-     * Returns an {@link Iterator} of {@link RandomAccessibleDataRow}.
+     * Returns an {@link Iterator} of {@link RandomAccessibleDataRow}. If the
+     * client is one of several clients created by
+     * {@link #createClients(GraphServiceClient, String, SharepointListSettings, SharepointListMultiListSettings)},
+     * the items of all lists are read concurrently ahead of their consumption.
      *
-     * @param settings
-     *            the {@link SharepointListSettings} used to decide the accessed
-     *            list
+     * @param config
+     *            the {@link SharepointListReaderConfig} deciding the accessed
+     *            list, the requested columns and which items are read. Only the
+     *            values of the {@link SharepointListReaderConfig#getSelectedColumns()
+     *            selected columns} are read, the others will be missing.
      * @return an iterator that allows iteration over all items in a list and
      *         returns them as {@link RandomAccessible}s
      * @throws IOException
      */
-    public Iterator<RandomAccessibleDataRow> getItems(final SharepointListSettings settings) throws IOException {
+    public Iterator<RandomAccessibleDataRow> getItems(final SharepointListReaderConfig config) throws IOException {
+        if (m_readAhead != null) {
+            return m_readAhead.getItems(this, config);
+        }
+        return readItems(config);
+    }
+
+    /**
+     * Stops reading the items of the given clients ahead, which releases the
+     * threads and buffered items of lists that have not been consumed, e.g.
+     * because the execution has been canceled.
+     *
+     * @param clients
+     *            the clients created by
+     *            {@link #createClients(GraphServiceClient, String, SharepointListSettings, SharepointListMultiListSettings)}
+     */
+    public static void stopReading(final List<SharepointListClient> clients) {
+        clients.stream()//
+                .map(c -> c.m_readAhead)//
+                .filter(Objects::nonNull)//
+                .distinct()//
+                .forEach(ListReadAhead::close);
+    }
+
+    /** Requests the items of this list, see {@link #getItems(SharepointListReaderConfig)}. */
+    Iterator<RandomAccessibleDataRow> readItems(final SharepointListReaderConfig config) throws IOException {
+        final var settings = config.getSharepointListSettings();
         setSiteAndListId(settings);
-        return new ItemIterator();
+        m_deltaLink = null;
+        m_itemCountEstimate = OptionalLong.empty();
+        final var options = new ArrayList<Option>(createItemOptions(settings, config.getSelectedColumns()));
+        if (config.getDeltaSettings().isEnabled()) {
+            m_warning = null;
+            return new DeltaItemIterator(options, config.getDeltaLink());
+        }
+        options.addAll(createFilterOptions(settings, config.getFilterSettings()));
+        final var filtered = config.getFilterSettings().hasConditions();
+        final var parallel = config.getParallelReadSettings();
+        final var idRange = !filtered || parallel.isEnabled() ? getIdRange() : Optional.<IdRange> empty();
+        // without a filter all items in the range are read
+        m_itemCountEstimate = filtered ? OptionalLong.empty() : idRange.map(IdRange::size)//
+                .map(OptionalLong::of)//
+                .orElseGet(OptionalLong::empty);
+        if (parallel.isEnabled() && idRange.isPresent()) {
+            final var partitions = createPartitionOptions(options, idRange.get(), parallel.getPartitions());
+            if (partitions.size() > 1) {
+                return new PartitionedItemIterator(partitions, getItemsUrl(), createPageReader(config),
+                        parallel.isKeepOrder());
+            }
+        }
+        return new ItemIterator(options, createPageReader(config));
+    }
+
+    private ItemPageReader createPageReader(final SharepointListReaderConfig config) {
+        LookupResolver resolver = null;
+        if (config.getLookupSettings().isResolve()) {
+            resolver = new LookupResolver(m_client, m_siteId, m_columns);
+            if (!resolver.hasTargets()) {
+                resolver = null;
+            }
+        }
+        return new ItemPageReader(m_client, new RowDecoder(m_columns, 0), resolver);
+    }
+
+    /**
+     * @return an estimate of the number of items returned by the last
+     *         {@link #getItems(SharepointListReaderConfig) item request}. This is
+     *         the size of the range of item IDs, which is exact unless items have
+     *         been deleted. Empty if no estimate is available, e.g. because a
+     *         filter or delta query is used.
+     */
+    public OptionalLong getItemCountEstimate() {
+        return m_itemCountEstimate;
+    }
+
+    /**
+     * The range of item IDs of a list (both inclusive).
+     */
+    record IdRange(long min, long max) {
+
+        long size() {
+            return max - min + 1;
+        }
+    }
+
+    /**
+     * Determines the range of item IDs by requesting the first item in ascending
+     * and descending order. The Graph API provides no item count for lists, so
+     * this is the cheapest way to estimate the size of a list.
+     *
+     * @return the range or empty if the list is empty or the range could not be
+     *         determined
+     */
+    private Optional<IdRange> getIdRange() {
+        try {
+            final var min = getIdBound(false);
+            final var max = getIdBound(true);
+            if (min.isPresent() && max.isPresent()) {
+                return Optional.of(new IdRange(min.getAsLong(), max.getAsLong()));
+            }
+        } catch (GraphServiceException e) { // NOSONAR the range is optional
+            LOGGER.debug("Could not determine the item ID range.", e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Splits the range of item IDs into at most the given number of partitions of
+     * equal size and creates the options to request each of them.
+     *
+     * @return the options of each partition; a single partition if the list is too
+     *         small to be split
+     */
+    static List<List<Option>> createPartitionOptions(final List<Option> options, final IdRange range,
+            final int maxPartitions) {
+        final var ids = range.size();
+        final var partitions = (int) Math.min(maxPartitions, (ids + MIN_PARTITION_SIZE - 1) / MIN_PARTITION_SIZE);
+        if (partitions <= 1) {
+            return List.of(options);
+        }
+        final var partitionSize = (ids + partitions - 1) / partitions;
+        final var result = new ArrayList<List<Option>>(partitions);
+        for (var i = 0; i < partitions; i++) {
+            final var from = range.min() + i * partitionSize;
+            var condition = String.format("fields/%s ge %d", SharepointListFilterSettings.FIELD_ID, from);
+            if (i < partitions - 1) { // the last partition also contains items created during the read
+                condition += String.format(" and fields/%s lt %d", SharepointListFilterSettings.FIELD_ID,
+                        from + partitionSize);
+            }
+            result.add(withFilter(options, condition));
+        }
+        return result;
+    }
+
+    private OptionalLong getIdBound(final boolean max) {
+        final var page = m_client.sites(m_siteId).lists(m_listId).items()//
+                .buildRequest(List.of(//
+                        new QueryOption("expand", "fields(select=id)"), //
+                        new QueryOption("orderby",
+                                "fields/" + SharepointListFilterSettings.FIELD_ID + (max ? " desc" : " asc")), //
+                        new QueryOption("top", "1")))//
+                .get();
+        return page.getCurrentPage().stream()//
+                .mapToLong(i -> Long.parseLong(i.id))//
+                .findFirst();
+    }
+
+    /**
+     * Adds a condition to the {@code $filter} option contained in the options or
+     * adds the option if there is none.
+     */
+    private static List<Option> withFilter(final List<Option> options, final String condition) {
+        final var result = new ArrayList<Option>(options.size() + 1);
+        var filter = condition;
+        for (final var option : options) {
+            if (option instanceof QueryOption && "filter".equals(option.getName())) {
+                filter = "(" + option.getValue() + ") and " + condition;
+            } else {
+                result.add(option);
+            }
+        }
+        result.add(new QueryOption("filter", filter));
+        return result;
+    }
+
+    /**
+     * @return the delta link returned after all changes have been read by a delta
+     *         query, which can be used to read the changes made afterwards
+     */
+    public Optional<String> getDeltaLink() {
+        return Optional.ofNullable(m_deltaLink);
+    }
+
+    /**
+     * @return a warning that occurred during the last
+     *         {@link #getItems(SharepointListReaderConfig) item request}
+     */
+    public Optional<String> getWarning() {
+        return Optional.ofNullable(m_warning);
+    }
+
+    /**
+     * Creates the query options used to request items. If possible, only the
+     * fields of the selected columns are requested.
+     */
+    private List<Option> createItemOptions(final SharepointListSettings settings,
+            final Set<String> selectedColumns) throws IOException {
+        if (selectedColumns == null) {
+            return OPTIONS_ITEMS;
+        }
+        final var columns = getColumns(settings);
+        final var fields = new LinkedHashSet<String>();
+        fields.add("id");
+        for (final var column : columns) {
+            if (selectedColumns.contains(column.getColumnName())) {
+                fields.add(column.getFieldName());
+            }
+        }
+        return List.of(new QueryOption("expand", "fields(select=" + String.join(",", fields) + ")"));
+    }
+
+    /**
+     * Creates the {@code $filter} option (and if necessary the header allowing
+     * queries on non-indexed columns) for the enabled filter conditions.
+     */
+    private List<Option> createFilterOptions(final SharepointListSettings settings,
+            final SharepointListFilterSettings filter) throws IOException {
+        m_warning = null;
+        final Map<String, String> conditions;
+        try {
+            conditions = filter.createConditions();
+        } catch (InvalidSettingsException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        if (conditions.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final var columns = getColumns(settings);
+        final var notIndexed = new ArrayList<String>();
+        for (final var field : conditions.keySet()) {
+            final var column = columns.stream()//
+                    .filter(c -> c.getFieldName().equalsIgnoreCase(field))//
+                    .findFirst()//
+                    .orElseThrow(() -> new IOException(
+                            String.format("The column “%s” used in the filter does not exist in the list.", field)));
+            if (!column.isIndexed()) {
+                notIndexed.add(column.getColumnName());
+            }
+        }
+
+        final var options = new ArrayList<Option>();
+        options.add(new QueryOption("filter", String.join(" and ", conditions.values())));
+        if (!notIndexed.isEmpty()) {
+            options.add(HEADER_NON_INDEXED);
+            m_warning = String.format("The filter uses the non-indexed column(s) %s. Reading may fail for lists "
+                    + "with more than 5000 items, please index these columns in SharePoint.",
+                    notIndexed.stream().map(c -> "“" + c + "”").collect(Collectors.joining(", ")));
+        }
+        return options;
     }
 
     /**
@@ -200,10 +705,13 @@ public final class SharepointListClient {
      */
     private void setSiteAndListId(final SharepointListSettings listSettings) throws IOException {
         updateSiteAndListSettings(listSettings);
-        final var siteResolver = new SharepointSiteResolver(m_client, m_siteSettings.getMode(),
+        if (m_fixedTarget) {
+            return;
+        }
+        m_siteResolver = new SharepointSiteResolver(m_client, m_identity, m_siteSettings.getMode(),
                 m_siteSettings.getSubsiteModel().getStringValue(), m_siteSettings.getWebURLModel().getStringValue(),
                 m_siteSettings.getGroupModel().getStringValue());
-        m_siteId = siteResolver.getTargetSiteId();
+        m_siteId = m_siteResolver.getTargetSiteId();
         m_listId = m_listSettings.getListModel().getStringValue();
 
         if (m_listId.isEmpty()) {
@@ -258,79 +766,154 @@ public final class SharepointListClient {
         }
     }
 
+    private String getItemsUrl() {
+        return m_client.sites(m_siteId).lists(m_listId).items().getRequestUrl();
+    }
+
+    private static boolean isUnmodified(final JsonObject item) {
+        final var created = item.get("createdDateTime");
+        return created != null && created.equals(item.get("lastModifiedDateTime"));
+    }
+
     private class ItemIterator implements Iterator<RandomAccessibleDataRow> {
 
-        private final Map<String, Pair<Integer, SharepointListColumn<?>>> m_idIndexMapping;
+        private final ItemPageReader m_pageReader;
 
-        private Iterator<ListItem> m_itemSetIterator = Collections.emptyIterator();
+        private Iterator<Object[]> m_itemSetIterator = Collections.emptyIterator();
 
-        private ListItemCollectionPage m_page = null;
+        private ItemPage m_page = null;
 
         private boolean m_finishedRead = false;
 
-        public ItemIterator() throws IOException {
-            m_idIndexMapping = createColumnAssignment();
+        private final List<Option> m_options;
+
+        public ItemIterator(final List<Option> options, final ItemPageReader pageReader) {
+            m_pageReader = pageReader;
+            m_options = options;
         }
 
         @Override
         public boolean hasNext() {
-            if (m_finishedRead) {
-                return false;
-            } else if (!m_itemSetIterator.hasNext()) {
+            while (!m_finishedRead && !m_itemSetIterator.hasNext()) {
                 makeNextRequest();
-                if (m_finishedRead) {
-                    return false;
-                }
-                m_itemSetIterator = m_page.getCurrentPage().iterator();
             }
             return m_itemSetIterator.hasNext();
         }
 
         @Override
         public RandomAccessibleDataRow next() {
-            final var res = new Object[m_idIndexMapping.size()];
-            final var fieldValueSet = m_itemSetIterator.next().fields;
+            return new RandomAccessibleDataRow(m_itemSetIterator.next());
+        }
+
+        private void makeNextRequest() {
+            if (m_page == null) {
+                m_page = m_pageReader.requestFirstPage(getItemsUrl(), m_options);
+            } else if (m_page.nextLink() == null) {
+                m_finishedRead = true;
+                return;
+            } else {
+                m_page = m_pageReader.requestNextPage(m_page, m_options);
+            }
+            m_itemSetIterator = m_page.rows().iterator();
+        }
+    }
+
+    /**
+     * Iterates over the items returned by a delta query. Each row additionally
+     * contains the {@link SharepointListDeltaSettings#CHANGE_TYPE_COLUMN change
+     * type} as last value. Once all pages have been read the delta link for the
+     * next synchronization is available via {@link #getDeltaLink()}.
+     */
+    private class DeltaItemIterator implements Iterator<RandomAccessibleDataRow> {
+
+        private static final int STATUS_GONE = 410;
+
+        private final RowDecoder m_decoder;
+
+        private final List<Option> m_options;
+
+        private final String m_startLink;
+
+        private Iterator<JsonElement> m_itemSetIterator = Collections.emptyIterator();
 
-            final var idLookup = m_idIndexMapping.getOrDefault("id", MISSING);
-            if (idLookup != MISSING) {
-                res[idLookup.getFirst()] = fieldValueSet.id;
+        private String m_nextLink;
+
+        private boolean m_started = false;
+
+        private boolean m_finishedRead = false;
+
+        DeltaItemIterator(final List<Option> options, final String startLink) {
+            m_decoder = new RowDecoder(m_columns, 1);
+            m_options = options;
+            m_startLink = startLink;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!m_finishedRead && !m_itemSetIterator.hasNext()) {
+                makeNextRequest();
             }
-            final var properties = fieldValueSet.additionalDataManager().entrySet();
+            return m_itemSetIterator.hasNext();
+        }
 
-            for (final var p : properties) {
-                final var lookup = m_idIndexMapping.getOrDefault(p.getKey().toLowerCase(), MISSING);
-                if (lookup != MISSING) {
-                    res[lookup.getFirst()] = lookup.getSecond()// [columnIndex] = column
-                            .getCanonicalRepresentation(p.getValue());
+        @Override
+        public RandomAccessibleDataRow next() {
+            final var item = m_itemSetIterator.next().getAsJsonObject();
+            final var res = m_decoder.createRow();
+            final var changeType = res.length - 1;
+
+            if (item.has("@removed") || item.has("deleted")) {
+                m_decoder.setId(res, item.get("id").getAsString());
+                res[changeType] = SharepointListDeltaSettings.CHANGE_TYPE_DELETED;
+            } else {
+                if (item.has("fields")) {
+                    m_decoder.decodeFields(item.getAsJsonObject("fields").entrySet(), res);
                 }
+                res[changeType] = isUnmodified(item) ? SharepointListDeltaSettings.CHANGE_TYPE_CREATED
+                        : SharepointListDeltaSettings.CHANGE_TYPE_UPDATED;
             }
             return new RandomAccessibleDataRow(res);
         }
 
         private void makeNextRequest() {
-            if (!m_finishedRead) {
-                if (m_page == null) {
-                    m_page = m_client.sites(m_siteId).lists(m_listId).items()//
-                            .buildRequest(OPTIONS_ITEMS)//
-                            .get();
-                } else {
-                    final var req = m_page.getNextPage();
-                    if (req == null) {
-                        m_page = null;
-                        m_finishedRead = true;
-                    } else {
-                        m_page = req.buildRequest(OPTIONS_ITEMS).get();
-                    }
+            final JsonObject page;
+            if (!m_started) {
+                m_started = true;
+                page = requestFirstPage();
+            } else if (m_nextLink != null) {
+                page = request(m_nextLink, Collections.emptyList());
+            } else {
+                m_finishedRead = true;
+                return;
+            }
+
+            m_itemSetIterator = page.has("value") ? page.getAsJsonArray("value").iterator()
+                    : Collections.emptyIterator();
+            m_nextLink = page.has("@odata.nextLink") ? page.get("@odata.nextLink").getAsString() : null;
+            if (page.has("@odata.deltaLink")) {
+                m_deltaLink = page.get("@odata.deltaLink").getAsString();
+            }
+        }
+
+        private JsonObject requestFirstPage() {
+            final var initialUrl = getItemsUrl() + "/delta";
+            if (m_startLink == null || m_startLink.isEmpty()) {
+                return request(initialUrl, m_options);
+            }
+            try {
+                // the delta link already contains the query options
+                return request(m_startLink, Collections.emptyList());
+            } catch (GraphServiceException e) {
+                if (e.getResponseCode() != STATUS_GONE) {
+                    throw e;
                 }
+                m_warning = "The delta link has expired, all items have been read again.";
+                return request(initialUrl, m_options);
             }
         }
 
-        private Map<String, Pair<Integer, SharepointListColumn<?>>> createColumnAssignment() {
-            return IntStream//
-                    .range(0, m_columns.size())//
-                    .boxed()//
-                    .collect(Collectors.toMap(i -> ((SharepointListColumn<?>) m_columns.get(i)).getIdName(),
-                            i -> Pair.create(i, m_columns.get(i)), (a, b) -> b));
+        private JsonObject request(final String url, final List<Option> options) {
+            return new CustomRequest<>(url, m_client, options, JsonObject.class).get();
         }
     }
 
@@ -54,7 +54,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.Currency;
 import java.util.Locale;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
+import java.util.function.Function;
 
 import org.knime.core.data.DataType;
 import org.knime.core.data.collection.ListCell;
@@ -161,6 +161,22 @@ abstract class SharepointListColumn<T> {
         return m_idName;
     }
 
+    /**
+     * @return the case-sensitive name of the field containing the value of this
+     *         column, as used in {@code $select} queries
+     */
+    public String getFieldName() {
+        return m_spec.name;
+    }
+
+    /**
+     * @return whether the column is indexed in SharePoint and can therefore be used
+     *         in {@code $filter} queries on large lists
+     */
+    public boolean isIndexed() {
+        return Boolean.TRUE.equals(m_spec.indexed);
+    }
+
     /**
      * @return whether an absolute type already could be determined
      */
@@ -201,6 +217,19 @@ abstract class SharepointListColumn<T> {
      */
     public abstract DataType getCanonicalType();
 
+    /**
+     * Extracts the IDs of the referenced items of a multi-value lookup or person
+     * field.
+     */
+    private static String[] toLookupIds(final JsonElement data) {
+        final var array = data.getAsJsonArray();
+        final var ids = new String[array.size()];
+        for (var i = 0; i < ids.length; i++) {
+            ids[i] = array.get(i).getAsJsonObject().get("LookupId").getAsString();
+        }
+        return ids;
+    }
+
     public static SharepointListColumn<?> of(final ColumnDefinition spec) { // NOSONAR
         TextColumn elem;
         SharepointListColumn<?> result;
@@ -244,6 +273,11 @@ abstract class SharepointListColumn<T> {
             super(spec, SharepointFieldType.ID);
         }
 
+        @Override
+        public boolean isIndexed() {
+            return true; // the ID is always indexed
+        }
+
         @Override
         public String getCanonicalRepresentation(final JsonElement data) {
             return data.getAsString();
@@ -277,25 +311,27 @@ abstract class SharepointListColumn<T> {
 
         private final String m_decimalPlaces;
         private final String m_displayAs;
+        private final Function<JsonElement, Number> m_decoder; // resolved once instead of for each value
 
         protected NumberTypedColumn(final ColumnDefinition spec) {
             super(spec, SharepointFieldType.NUMBER);
             final var settings = spec.number;
             m_decimalPlaces = settings.decimalPlaces;
             m_displayAs = settings.displayAs;
-        }
-
-        @Override
-        public Number getCanonicalRepresentation(final JsonElement data) {
             if (m_decimalPlaces.equals("none")) {
-                return data.getAsLong();
+                m_decoder = JsonElement::getAsLong;
             } else if (m_decimalPlaces.equals("auto")) {
-                return data.getAsNumber();
+                m_decoder = JsonElement::getAsNumber;
             } else {
-                return data.getAsDouble();
+                m_decoder = JsonElement::getAsDouble;
             }
         }
 
+        @Override
+        public Number getCanonicalRepresentation(final JsonElement data) {
+            return m_decoder.apply(data);
+        }
+
         @Override
         public DataType getCanonicalType() {
             if (m_decimalPlaces.equals("none")) {
@@ -331,14 +367,15 @@ abstract class SharepointListColumn<T> {
             }
         }
 
+        @Override
+        public String getFieldName() {
+            return m_multiple ? m_spec.name : (m_spec.name + "LookupId");
+        }
+
         @Override
         public Object getCanonicalRepresentation(final JsonElement data) {
             if (m_multiple) {
-                return StreamSupport.stream(data.getAsJsonArray().spliterator(), false)//
-                        .map(JsonElement::getAsJsonObject)//
-                        .map(o -> o.get("LookupId"))//
-                        .map(JsonElement::getAsString)//
-                        .toArray(String[]::new);
+                return toLookupIds(data);
             } else {
                 return Long.valueOf(data.getAsString());
             }
@@ -382,14 +419,15 @@ abstract class SharepointListColumn<T> {
             }
         }
 
+        @Override
+        public String getFieldName() {
+            return m_multiple ? m_spec.name : (m_spec.name + "LookupId");
+        }
+
         @Override
         public Object getCanonicalRepresentation(final JsonElement data) {
             if (m_multiple) {
-                final var vals = StreamSupport.stream(data.getAsJsonArray().spliterator(), false)//
-                        .map(JsonElement::getAsJsonObject)//
-                        .map(o -> o.get("LookupId"))//
-                        .map(JsonElement::getAsString)//
-                        .toArray(String[]::new);
+                final var vals = toLookupIds(data);
                 // emulate behavior of person column
                 if (vals.length == 0) {
                     return null; // missing value
@@ -449,9 +487,12 @@ abstract class SharepointListColumn<T> {
         @Override
         public Object getCanonicalRepresentation(final JsonElement data) {
             if (m_multiple) {
-                return StreamSupport.stream(data.getAsJsonArray().spliterator(), false)//
-                        .map(JsonElement::getAsString)//
-                        .toArray(String[]::new);
+                final var array = data.getAsJsonArray();
+                final var vals = new String[array.size()];
+                for (var i = 0; i < vals.length; i++) {
+                    vals[i] = array.get(i).getAsString();
+                }
+                return vals;
             } else {
                 return data.getAsString();
             }
@@ -48,11 +48,12 @@
  */
 package org.knime.ext.sharepoint.lists.node.reader.framework;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.OptionalLong;
 
-import org.knime.ext.sharepoint.lists.node.SharepointListSettings;
+import org.knime.ext.sharepoint.lists.node.reader.SharepointListReaderConfig;
 import org.knime.filehandling.core.node.table.reader.randomaccess.AbstractRandomAccessible;
 import org.knime.filehandling.core.node.table.reader.randomaccess.RandomAccessible;
 import org.knime.filehandling.core.node.table.reader.read.Read;
@@ -89,18 +90,21 @@ public class SharepointListRead implements Read<Object> {
 
     private Iterator<RandomAccessibleDataRow> m_items;
 
+    private final OptionalLong m_maxProgress;
+
     /**
      * Constructor.
      *
      * @param client
      *            the client to read from and use for requests
-     * @param settings
-     *            the {@link SharepointListSettings}
+     * @param config
+     *            the {@link SharepointListReaderConfig}
      * @throws IOException
      */
-    public SharepointListRead(final SharepointListClient client, final SharepointListSettings settings)
+    public SharepointListRead(final SharepointListClient client, final SharepointListReaderConfig config)
             throws IOException {
-        m_items = client.getItems(settings);
+        m_items = client.getItems(config);
+        m_maxProgress = client.getItemCountEstimate();
         m_rowsRead = 0;
 
     }
@@ -117,17 +121,19 @@ public class SharepointListRead implements Read<Object> {
 
     @Override
     public OptionalLong getMaxProgress() {
-        // TODO not found a solution yet to determine the no of rows via API
-        return OptionalLong.empty();
+        return m_maxProgress;
     }
 
     @Override
     public long getProgress() {
-        return m_rowsRead;
+        // the estimate does not include items created during the read
+        return m_maxProgress.isPresent() ? Math.min(m_rowsRead, m_maxProgress.getAsLong()) : m_rowsRead;
     }
 
     @Override
     public void close() throws IOException {
-        // nothing to close
+        if (m_items instanceof Closeable closeable) {
+            closeable.close();
+        }
     }
 }
@@ -49,13 +49,17 @@
 package org.knime.ext.sharepoint.lists.node.reader.framework;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.stream.Collectors;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataType;
+import org.knime.core.data.def.StringCell;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.streamable.RowInput;
+import org.knime.ext.sharepoint.lists.node.reader.SharepointListDeltaSettings;
 import org.knime.ext.sharepoint.lists.node.reader.SharepointListReaderConfig;
 import org.knime.filehandling.core.node.table.reader.GenericTableReader;
 import org.knime.filehandling.core.node.table.reader.config.TableReadConfig;
@@ -77,16 +81,21 @@ public final class SharepointListReader
     @SuppressWarnings("resource") // closing the read is the responsibility of the caller
     public Read<Object> read(final SharepointListClient in, final TableReadConfig<SharepointListReaderConfig> config)
             throws IOException {
-        final var read = new SharepointListRead(in, config.getReaderSpecificConfig().getSharepointListSettings());
+        final var read = new SharepointListRead(in, config.getReaderSpecificConfig());
         return decorateForReading(read, config);
     }
 
     @Override
     public TypedReaderTableSpec<DataType> readSpec(final SharepointListClient in,
             final TableReadConfig<SharepointListReaderConfig> config, final ExecutionMonitor exec) throws IOException {
-        final var columnSpecs = in.getColumns(config.getReaderSpecificConfig().getSharepointListSettings()).stream()
+        final var readerConfig = config.getReaderSpecificConfig();
+        final var columnSpecs = in.getColumns(readerConfig.getSharepointListSettings()).stream()
                 .map(SharepointListReader::getColumnSpec)//
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (readerConfig.getDeltaSettings().isEnabled()) {
+            columnSpecs.add(TypedReaderColumnSpec.createWithName(SharepointListDeltaSettings.CHANGE_TYPE_COLUMN,
+                    StringCell.TYPE, true));
+        }
 
         return new TypedReaderTableSpec<>(columnSpecs);
     }
@@ -97,12 +106,12 @@ public final class SharepointListReader
 
     @Override
     public DataColumnSpec createIdentifierColumnSpec(final SharepointListClient item, final String name) {
-        throw new UnsupportedOperationException();
+        return new DataColumnSpecCreator(name, StringCell.TYPE).createSpec();
     }
 
     @Override
     public DataCell createIdentifierCell(final SharepointListClient item) {
-        throw new UnsupportedOperationException();
+        return new StringCell(item.getSourceName());
     }
 
     /**
@@ -103,6 +103,11 @@ public class SharepointListUpdaterNodeFactory extends NodeFactory<SharepointList
                         Any list columns which are not present in the table will be left as they are. A missing value
                         will clear the respective cell.
                     </li>
+                    <li>
+                        If <i>Only send changed values</i> is enabled in the advanced settings, the current values of
+                        the items are fetched in batches before updating. Rows whose values all match the input table
+                        are skipped and only the changed fields of the remaining rows are sent.
+                    </li>
                 </ul>
             </p>
             <p>
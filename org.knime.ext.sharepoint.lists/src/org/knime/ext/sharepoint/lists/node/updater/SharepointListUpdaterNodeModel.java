@@ -62,6 +62,13 @@ import org.knime.core.node.NodeModel;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.webui.node.impl.WebUINodeModel;
 import org.knime.credentials.base.CredentialPortObject;
@@ -147,14 +154,46 @@ final class SharepointListUpdaterNodeModel extends WebUINodeModel<SharepointList
         final var table = (BufferedDataTable) inObjects[1];
 
         try (final var client = new SharepointListChangingClient(params.m_site, params.m_list, params.m_timeout, null,
-                table, credSpec, exec)) {
-            client.updateList(
-                    params.m_idColumn.getEnumChoice().isPresent() ? null : params.m_idColumn.getStringChoice());
+                table.getDataTableSpec(), credSpec, exec)) {
+            client.updateList(table, getIdColumnName(params), params.m_onlyChangedValues);
         }
 
         return new PortObject[] {};
     }
 
+    @Override
+    protected StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+            final PortObjectSpec[] inSpecs, final SharepointListUpdaterNodeParameters params)
+            throws InvalidSettingsException {
+
+        return new StreamableOperator() {
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                    throws Exception {
+
+                final var credSpec = ((PortObjectInput) inputs[0]).getPortObject().getSpec();
+                final var rowInput = (RowInput) inputs[1];
+
+                try (final var client = new SharepointListChangingClient(params.m_site, params.m_list,
+                        params.m_timeout, null, rowInput.getDataTableSpec(), (CredentialPortObjectSpec) credSpec,
+                        exec)) {
+                    client.updateList(rowInput, -1, getIdColumnName(params), params.m_onlyChangedValues);
+                }
+            }
+        };
+    }
+
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        // the rows have to be sent in order by a single client
+        return new InputPortRole[] { InputPortRole.NONDISTRIBUTED_NONSTREAMABLE,
+                InputPortRole.NONDISTRIBUTED_STREAMABLE };
+    }
+
+    private static String getIdColumnName(final SharepointListUpdaterNodeParameters params) {
+        return params.m_idColumn.getEnumChoice().isPresent() ? null : params.m_idColumn.getStringChoice();
+    }
+
     private static boolean legacyListSettingsNonEmpty(final SharepointListParameters list) {
         return list.getExistingListId() != null || list.getExistingListInternalName() != null
                 || list.getExistingListDisplayName() != null;
@@ -58,9 +58,12 @@ import org.knime.core.webui.node.dialog.defaultdialog.util.updates.StateComputat
 import org.knime.ext.sharepoint.lists.node.SharepointListParameters;
 import org.knime.ext.sharepoint.parameters.SharepointSiteParameters;
 import org.knime.ext.sharepoint.parameters.TimeoutParameters;
+import org.knime.node.parameters.Advanced;
 import org.knime.node.parameters.NodeParameters;
 import org.knime.node.parameters.NodeParametersInput;
 import org.knime.node.parameters.Widget;
+import org.knime.node.parameters.layout.Layout;
+import org.knime.node.parameters.layout.Section;
 import org.knime.node.parameters.migration.LoadDefaultsForAbsentFields;
 import org.knime.node.parameters.migration.Migration;
 import org.knime.node.parameters.persistence.legacy.SettingsModelColumnNameMigration;
@@ -94,6 +97,19 @@ final class SharepointListUpdaterNodeParameters implements NodeParameters {
     @ValueProvider(DefaultIdColumnProvider.class)
     StringOrEnum<RowIDChoice> m_idColumn = new StringOrEnum<>("ID");
 
+    @Advanced
+    @Section(title = "Change Detection")
+    interface ChangeDetectionSection {
+    }
+
+    @Widget(title = "Only send changed values", description = """
+            If checked, the current values of the items to update are fetched first and compared against the input
+            table. Only fields whose values differ are sent and rows without any changes are skipped entirely. This
+            requires one additional batch request per 20 items but reduces the number of writes, which is faster if
+            most of the rows are unchanged. Items which do not exist anymore are treated as changed.""")
+    @Layout(ChangeDetectionSection.class)
+    boolean m_onlyChangedValues;
+
     @PersistEmbedded
     TimeoutParameters m_timeout = new TimeoutParameters();
 
@@ -116,6 +116,10 @@ public class SharepointListWriterNodeFactory extends NodeFactory<SharepointListW
                         <tt>sharepoint_list_id</tt>. The ID can be used in subsequent nodes to control the
                         <tt>list</tt> setting via flow variable.
                     </li>
+                    <li>
+                        If <i>Resume interrupted writes</i> is enabled in the advanced settings, a failed or canceled
+                        write can be continued by re-executing the node. Rows which were already written are skipped.
+                    </li>
                 </ul>
             </p>
             <p>
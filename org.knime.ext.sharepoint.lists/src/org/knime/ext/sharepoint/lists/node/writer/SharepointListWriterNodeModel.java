@@ -63,6 +63,13 @@ import org.knime.core.node.NodeModel;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.node.workflow.VariableType;
 import org.knime.core.webui.node.impl.WebUINodeModel;
@@ -70,6 +77,7 @@ import org.knime.credentials.base.CredentialPortObject;
 import org.knime.credentials.base.CredentialPortObjectSpec;
 import org.knime.ext.sharepoint.GraphCredentialUtil;
 import org.knime.ext.sharepoint.lists.node.KNIMEToSharepointTypeConverter;
+import org.knime.ext.sharepoint.lists.node.ListWriteJournal;
 import org.knime.ext.sharepoint.lists.node.SharepointListChangingClient;
 import org.knime.ext.sharepoint.lists.node.SharepointListParameters;
 
@@ -85,6 +93,12 @@ final class SharepointListWriterNodeModel extends WebUINodeModel<SharepointListW
 
     private boolean m_raiseVariableOverwriteWarning;
 
+    /**
+     * Journal of the last write. This is intentionally kept across resets so that
+     * a failed or canceled write can be resumed by re-executing the node.
+     */
+    private final ListWriteJournal m_journal = new ListWriteJournal();
+
     protected SharepointListWriterNodeModel() {
         super(new PortType[] { CredentialPortObject.TYPE, BufferedDataTable.TYPE }, new PortType[] {},
                 SharepointListWriterNodeParameters.class);
@@ -146,13 +160,54 @@ final class SharepointListWriterNodeModel extends WebUINodeModel<SharepointListW
         final var table = (BufferedDataTable) inObjects[1];
 
         try (final var client = new SharepointListChangingClient(params.m_site, params.m_list, params.m_timeout,
-                this::pushListId, table, credSpec, exec)) {
-            client.writeList();
+                this::pushListId, table.getDataTableSpec(), credSpec, exec)) {
+            client.setRecreateListOnOverwrite(params.m_recreateListOnOverwrite);
+            client.writeList(table, getJournal(params));
         }
+        m_journal.clear();
 
         return new PortObject[] {};
     }
 
+    @Override
+    protected StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+            final PortObjectSpec[] inSpecs, final SharepointListWriterNodeParameters params)
+            throws InvalidSettingsException {
+
+        return new StreamableOperator() {
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                    throws Exception {
+
+                final var credSpec = ((PortObjectInput) inputs[0]).getPortObject().getSpec();
+                final var rowInput = (RowInput) inputs[1];
+
+                try (final var client = new SharepointListChangingClient(params.m_site, params.m_list,
+                        params.m_timeout, SharepointListWriterNodeModel.this::pushListId,
+                        rowInput.getDataTableSpec(), (CredentialPortObjectSpec) credSpec, exec)) {
+                    client.setRecreateListOnOverwrite(params.m_recreateListOnOverwrite);
+                    client.writeList(rowInput, -1, getJournal(params));
+                }
+                m_journal.clear();
+            }
+        };
+    }
+
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        // the rows have to be sent in order by a single client
+        return new InputPortRole[] { InputPortRole.NONDISTRIBUTED_NONSTREAMABLE,
+                InputPortRole.NONDISTRIBUTED_STREAMABLE };
+    }
+
+    private ListWriteJournal getJournal(final SharepointListWriterNodeParameters params) {
+        if (params.m_resumeInterruptedWrites) {
+            return m_journal;
+        }
+        m_journal.clear();
+        return null;
+    }
+
     private static boolean legacyListSettingsNonEmpty(final SharepointListParameters list) {
         return list.getExistingListId() != null || list.getExistingListInternalName() != null
                 || list.getExistingListDisplayName() != null || list.getListNameToCreate().isPresent();
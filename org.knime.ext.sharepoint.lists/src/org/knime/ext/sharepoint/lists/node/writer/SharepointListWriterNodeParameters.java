@@ -51,7 +51,11 @@ import org.knime.core.webui.node.dialog.defaultdialog.internal.widget.PersistWit
 import org.knime.ext.sharepoint.lists.node.SharepointListParameters;
 import org.knime.ext.sharepoint.parameters.SharepointSiteParameters;
 import org.knime.ext.sharepoint.parameters.TimeoutParameters;
+import org.knime.node.parameters.Advanced;
 import org.knime.node.parameters.NodeParameters;
+import org.knime.node.parameters.Widget;
+import org.knime.node.parameters.layout.Layout;
+import org.knime.node.parameters.layout.Section;
 import org.knime.node.parameters.migration.LoadDefaultsForAbsentFields;
 import org.knime.node.parameters.updates.ValueReference;
 
@@ -70,6 +74,34 @@ final class SharepointListWriterNodeParameters implements NodeParameters {
 
     SharepointListParameters.WithCreateLists m_list = new SharepointListParameters.WithCreateLists();
 
+    @Advanced
+    @Section(title = "Overwrite")
+    interface OverwriteSection {
+    }
+
+    @Advanced
+    @Section(title = "Recovery")
+    interface RecoverySection {
+    }
+
+    @Widget(title = "Recreate list on overwrite", description = """
+            If checked and a list which is selected by name to be created is overwritten, a list with more than
+            5000 items is deleted and created again with the same name instead of deleting its items one by one,
+            which is much faster. <b>Note:</b> only the name and the written data remain. Everything else about the
+            list is lost, including its ID (the new ID is available as flow variable), permissions, views, version
+            history, content types, description and lookup columns of other lists which refer to it. If the new list
+            cannot be created, the old list and all of its items are gone nevertheless.""")
+    @Layout(OverwriteSection.class)
+    boolean m_recreateListOnOverwrite;
+
+    @Widget(title = "Resume interrupted writes", description = """
+            If checked, the node keeps track of the rows which were successfully written. If the execution fails or
+            is canceled, re-executing the node with the same input table and target list continues with the first row
+            which was not written instead of starting over. The list is not overwritten again in this case. The
+            progress is only kept while the workflow is open.""")
+    @Layout(RecoverySection.class)
+    boolean m_resumeInterruptedWrites;
+
     @PersistEmbedded
     TimeoutParameters m_timeout = new TimeoutParameters();
 
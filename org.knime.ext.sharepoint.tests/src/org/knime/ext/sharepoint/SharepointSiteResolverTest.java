@@ -0,0 +1,246 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   2026-10-18 (jannik.loescher): created
+ */
+package org.knime.ext.sharepoint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.knime.ext.sharepoint.settings.SiteMode;
+
+import com.microsoft.graph.http.GraphServiceException;
+import com.microsoft.graph.requests.GraphServiceClient;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Tests for the site ID cache of {@link SharepointSiteResolver}.
+ *
+ * @author Jannik Löscher, KNIME GmbH, Konstanz, Germany
+ */
+final class SharepointSiteResolverTest {
+
+    private static final String IDENTITY = "tenant/user";
+
+    private final AtomicLong m_time = new AtomicLong();
+
+    private FakeGraph m_graph;
+
+    private GraphServiceClient<Request> m_client;
+
+    /**
+     * Answers requests for the root site with the ID of the current site and
+     * requests for a site by ID with a 404 response unless it is the current site,
+     * counting the requests.
+     */
+    private static final class FakeGraph implements Interceptor {
+
+        private static final MediaType JSON = MediaType.get("application/json");
+
+        private final AtomicInteger m_requests = new AtomicInteger();
+
+        private volatile String m_siteId = "site1";
+
+        @Override
+        public Response intercept(final Chain chain) {
+            m_requests.incrementAndGet();
+            final var siteId = m_siteId;
+            final var segments = chain.request().url().pathSegments();
+            final var requested = segments.get(segments.size() - 1);
+            final var found = siteId != null && ("root".equals(requested) || siteId.equals(requested));
+            final var body = found ? "{\"id\":\"" + siteId + "\"}"
+                    : "{\"error\":{\"code\":\"itemNotFound\",\"message\":\"Site not found\"}}";
+            return new Response.Builder()//
+                    .request(chain.request())//
+                    .protocol(Protocol.HTTP_1_1)//
+                    .code(found ? 200 : 404)//
+                    .message(found ? "OK" : "Not Found")//
+                    .body(ResponseBody.create(body, JSON))//
+                    .build();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        SharepointSiteResolver.clearCache();
+        SharepointSiteResolver.setClock(m_time::get);
+        m_graph = new FakeGraph();
+        m_client = GraphServiceClient.builder()//
+                .httpClient(new OkHttpClient.Builder().addInterceptor(m_graph).build())//
+                .buildClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SharepointSiteResolver.setClock(System::currentTimeMillis);
+        SharepointSiteResolver.clearCache();
+    }
+
+    private SharepointSiteResolver resolver(final String identity) {
+        return new SharepointSiteResolver(m_client, identity, SiteMode.ROOT, null, null, null);
+    }
+
+    @Test
+    void testSiteIdIsCachedPerIdentity() throws IOException {
+        assertEquals("site1", resolver(IDENTITY).getTargetSiteId());
+        assertEquals("site1", resolver(IDENTITY).getTargetSiteId());
+        assertEquals(1, m_graph.m_requests.get());
+
+        // other identities do not share the cached site ID
+        assertEquals("site1", resolver("tenant/other").getTargetSiteId());
+        assertEquals(2, m_graph.m_requests.get());
+    }
+
+    @Test
+    void testSiteIdIsNotCachedWithoutIdentity() throws IOException {
+        resolver(null).getTargetSiteId();
+        resolver(null).getTargetSiteId();
+        assertEquals(2, m_graph.m_requests.get());
+    }
+
+    @Test
+    void testSiteIdExpires() throws IOException {
+        resolver(IDENTITY).getTargetSiteId();
+        m_graph.m_siteId = "site2";
+
+        m_time.addAndGet(TimeUnit.HOURS.toMillis(23));
+        assertEquals("site1", resolver(IDENTITY).getTargetSiteId());
+        assertEquals(1, m_graph.m_requests.get());
+
+        m_time.addAndGet(TimeUnit.HOURS.toMillis(1));
+        assertEquals("site2", resolver(IDENTITY).getTargetSiteId());
+        assertEquals(2, m_graph.m_requests.get());
+    }
+
+    @Test
+    void testInvalidateResolvesSiteAgain() throws IOException {
+        final var resolver = resolver(IDENTITY);
+        resolver.getTargetSiteId();
+        m_graph.m_siteId = "site2";
+
+        resolver.invalidate();
+        assertEquals("site2", resolver(IDENTITY).getTargetSiteId());
+        assertEquals(2, m_graph.m_requests.get());
+    }
+
+    @Test
+    void testSiteNotFoundIsNotCached() throws IOException {
+        m_graph.m_siteId = null;
+        assertThrows(Exception.class, () -> resolver(IDENTITY).getTargetSiteId());
+
+        m_graph.m_siteId = "site1";
+        assertEquals("site1", resolver(IDENTITY).getTargetSiteId());
+        assertEquals(2, m_graph.m_requests.get());
+    }
+
+    private String requestSite(final SharepointSiteResolver resolver) throws IOException {
+        return resolver.requestSite(siteId -> m_client.sites(siteId).buildRequest().get().id);
+    }
+
+    @Test
+    void testRequestIsRetriedWithSiteResolvedAgain() throws IOException {
+        resolver(IDENTITY).getTargetSiteId();
+        m_graph.m_siteId = "site2";
+
+        // the request to the cached site fails, the site is resolved again
+        assertEquals("site2", requestSite(resolver(IDENTITY)));
+        assertEquals(4, m_graph.m_requests.get());
+
+        // the new site ID is cached
+        assertEquals("site2", requestSite(resolver(IDENTITY)));
+        assertEquals(5, m_graph.m_requests.get());
+    }
+
+    @Test
+    void testWrappedNotFoundIsRetried() throws IOException {
+        resolver(IDENTITY).getTargetSiteId();
+        m_graph.m_siteId = "site2";
+
+        final var result = resolver(IDENTITY).requestSite(siteId -> {
+            try {
+                return m_client.sites(siteId).buildRequest().get().id;
+            } catch (GraphServiceException e) {
+                throw new IOException("Could not read the site", e);
+            }
+        });
+        assertEquals("site2", result);
+    }
+
+    @Test
+    void testRequestIsRetriedOnlyOnce() throws IOException {
+        resolver(IDENTITY).getTargetSiteId();
+        final var attempts = new AtomicInteger();
+        final var resolver = resolver(IDENTITY);
+        assertThrows(GraphServiceException.class, () -> resolver.requestSite(siteId -> {
+            attempts.incrementAndGet();
+            return m_client.sites("deleted").buildRequest().get().id;
+        }));
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void testSubsiteIsNotResolved() throws IOException {
+        final var resolver = new SharepointSiteResolver(m_client, IDENTITY, SiteMode.ROOT, "subsite", null, null);
+        assertEquals("subsite", resolver.getTargetSiteId());
+        assertEquals(0, m_graph.m_requests.get());
+    }
+}
@@ -49,9 +49,14 @@
 package org.knime.ext.sharepoint;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.credentials.base.Credential;
@@ -61,6 +66,8 @@ import org.knime.credentials.base.oauth.api.AccessTokenAccessor;
 import org.knime.credentials.base.oauth.api.AccessTokenWithScopesAccessor;
 
 import com.azure.core.credential.AccessToken;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.microsoft.graph.authentication.IAuthenticationProvider;
 import com.microsoft.graph.authentication.TokenCredentialAuthProvider;
 
@@ -123,21 +130,58 @@ public final class GraphCredentialUtil {
      */
     public static IAuthenticationProvider createAuthenticationProvider(
             final CredentialPortObjectSpec credSpec) throws NoSuchCredentialException, IOException {
+        return createAuthenticationProvider(getGraphTokenAccessor(credSpec));
+    }
 
-        final AccessTokenAccessor tokenAccessor;
-
+    private static AccessTokenAccessor getGraphTokenAccessor(final CredentialPortObjectSpec credSpec)
+            throws NoSuchCredentialException, IOException {
         if (credSpec.hasAccessor(AccessTokenAccessor.class)) {
-            tokenAccessor = credSpec.toAccessor(AccessTokenAccessor.class);
+            return credSpec.toAccessor(AccessTokenAccessor.class);
         } else if (credSpec.hasAccessor(AccessTokenWithScopesAccessor.class)) {
-            tokenAccessor = credSpec.toAccessor(AccessTokenWithScopesAccessor.class)
+            return credSpec.toAccessor(AccessTokenWithScopesAccessor.class)
                     .getAccessTokenWithScopes(Set.of(GRAPH_API_SCOPE));
         } else {
             // this should never happen, as we already validated the
             // credential spec in the configure phase
             throw new IllegalStateException("The provided credential is incompatible.");
         }
+    }
 
-        return createAuthenticationProvider(tokenAccessor);
+    /**
+     * Determines the identity behind the given credential, i.e. the tenant and
+     * the principal the Graph API access token has been issued for. The identity
+     * stays the same when the token is refreshed, so it can be used to key data
+     * that may only be shared between nodes using the same identity.
+     *
+     * @param credSpec
+     *            The ingoing {@link CredentialPortObjectSpec} during execute().
+     * @return the identity in the form {@code <tenant>/<principal>} or an empty
+     *         {@link Optional} if the token does not contain this information
+     * @throws NoSuchCredentialException
+     *             If no credential was found.
+     * @throws IOException
+     *             If an access token with MS Graph scope could not be fetched.
+     */
+    public static Optional<String> getCredentialIdentity(final CredentialPortObjectSpec credSpec)
+            throws NoSuchCredentialException, IOException {
+        final var token = getGraphTokenAccessor(credSpec).getAccessToken();
+        final var parts = token.split("\\.");
+        if (parts.length != 3) {
+            return Optional.empty(); // not a JWT
+        }
+        try {
+            final var claims = JsonParser
+                    .parseString(new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8))
+                    .getAsJsonObject();
+            final var tenant = claims.get("tid");
+            final var principal = claims.has("oid") ? claims.get("oid") : claims.get("appid");
+            if (tenant == null || principal == null) {
+                return Optional.empty();
+            }
+            return Optional.of(tenant.getAsString() + "/" + principal.getAsString());
+        } catch (IllegalArgumentException | IllegalStateException | JsonParseException e) { // NOSONAR
+            return Optional.empty();
+        }
     }
 
     /**
@@ -152,7 +196,7 @@ public final class GraphCredentialUtil {
         // as is the nature of monos, this will defer the actual retrieval of the access
         // token to when it
         // is fact needed.
-        final var accessTokenMono = Mono.fromCallable(() -> toMsalAccessToken(tokenAccessor));
+        final var accessTokenMono = Mono.fromCallable(new CachingAccessTokenSupplier(tokenAccessor));
         return new TokenCredentialAuthProvider(ignored -> accessTokenMono);
     }
 
@@ -163,4 +207,44 @@ public final class GraphCredentialUtil {
 
         return new AccessToken(accessToken, expiration);
     }
+
+    /**
+     * Memoizes the {@link AccessToken} of an {@link AccessTokenAccessor} until
+     * shortly before it expires. This is invoked for every single HTTP request
+     * made by the Graph client, so the hot path only reads a volatile field and
+     * only one thread fetches the next token at the expiry boundary.
+     */
+    private static final class CachingAccessTokenSupplier implements Callable<AccessToken> {
+
+        private static final long REFRESH_MARGIN_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+        private record CachedToken(AccessToken token, long refreshAtMillis) {
+        }
+
+        private final AccessTokenAccessor m_tokenAccessor;
+
+        private volatile CachedToken m_cached; // NOSONAR only replaced as a whole
+
+        CachingAccessTokenSupplier(final AccessTokenAccessor tokenAccessor) {
+            m_tokenAccessor = tokenAccessor;
+        }
+
+        @Override
+        public AccessToken call() throws IOException {
+            var cached = m_cached;
+            if (cached != null && System.currentTimeMillis() < cached.refreshAtMillis()) {
+                return cached.token();
+            }
+            synchronized (this) {
+                cached = m_cached;
+                if (cached == null || System.currentTimeMillis() >= cached.refreshAtMillis()) {
+                    final var token = toMsalAccessToken(m_tokenAccessor);
+                    cached = new CachedToken(token,
+                            token.getExpiresAt().toInstant().toEpochMilli() - REFRESH_MARGIN_MILLIS);
+                    m_cached = cached;
+                }
+                return cached.token();
+            }
+        }
+    }
 }
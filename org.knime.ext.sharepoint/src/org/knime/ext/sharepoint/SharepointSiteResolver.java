@@ -49,10 +49,17 @@
 package org.knime.ext.sharepoint;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
 
 import org.knime.ext.sharepoint.settings.SiteMode;
 
 import com.microsoft.graph.core.ClientException;
+import com.microsoft.graph.http.GraphServiceException;
 import com.microsoft.graph.requests.GraphServiceClient;
 import com.microsoft.graph.requests.SiteRequestBuilder;
 
@@ -62,14 +69,71 @@ import okhttp3.Request;
  * Class which resolves the settings of nodes i.e. SharePoint Online connector
  * into a SharePoint site ID.
  *
+ * <p>
+ * If a credential identity is given, resolved site IDs are cached JVM-wide for
+ * {@value #CACHE_TTL_HOURS} hours, since they practically never change. A cached
+ * site ID is not validated; callers that receive a 404 response for a site
+ * should call {@link #invalidate()} and resolve the site again.
+ * </p>
+ *
  * @author Lars Schweikardt, KNIME GmbH, Konstanz, Germany
  */
 public final class SharepointSiteResolver {
 
     private static final String ROOT_SITE = "root";
 
+    private static final int CACHE_TTL_HOURS = 24;
+
+    private static final long CACHE_TTL_MILLIS = TimeUnit.HOURS.toMillis(CACHE_TTL_HOURS);
+
+    private static final int MAX_CACHE_ENTRIES = 1000;
+
+    private static final Map<CacheKey, CacheEntry> SITE_IDS = Collections
+            .synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<CacheKey, CacheEntry> eldest) {
+                    return size() > MAX_CACHE_ENTRIES;
+                }
+            });
+
+    /** The time source of the cache, replaced by tests. */
+    private static final AtomicReference<LongSupplier> CLOCK = new AtomicReference<>(System::currentTimeMillis);
+
+    private record CacheKey(String identity, SiteMode mode, String target) {
+    }
+
+    private record CacheEntry(String siteId, long expiresAt) {
+    }
+
+    /**
+     * A request to a site.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param <E>
+     *            the type of the exception thrown by the request
+     */
+    @FunctionalInterface
+    public interface SiteRequest<T, E extends Exception> {
+
+        /**
+         * @param siteId
+         *            the ID of the site
+         * @return the result of the request
+         * @throws IOException
+         *             if the request failed
+         * @throws E
+         *             if the request failed
+         */
+        T apply(String siteId) throws IOException, E;
+    }
+
     private final GraphServiceClient<Request> m_client;
 
+    private final String m_identity;
+
     private final SiteMode m_siteMode;
 
     private final String m_subSite;
@@ -94,7 +158,31 @@ public final class SharepointSiteResolver {
      */
     public SharepointSiteResolver(final GraphServiceClient<Request> client, final SiteMode siteMode,
             final String subSite, final String webUrl, final String group) {
+        this(client, null, siteMode, subSite, webUrl, group);
+    }
+
+    /**
+     * Constructor for a resolver that caches the resolved site IDs.
+     *
+     * @param client
+     *            the {@link GraphServiceClient}
+     * @param identity
+     *            the credential identity (see
+     *            {@link GraphCredentialUtil#getCredentialIdentity}) used to share
+     *            cached site IDs or {@code null} to not use the cache
+     * @param siteMode
+     *            the selected {@link SiteMode}
+     * @param subSite
+     *            the selected Subsite
+     * @param webUrl
+     *            the selected webUrl
+     * @param group
+     *            the selected group
+     */
+    public SharepointSiteResolver(final GraphServiceClient<Request> client, final String identity,
+            final SiteMode siteMode, final String subSite, final String webUrl, final String group) {
         m_client = client;
+        m_identity = identity;
         m_siteMode = siteMode;
         m_subSite = subSite;
         m_webUrl = webUrl;
@@ -119,6 +207,14 @@ public final class SharepointSiteResolver {
      */
     @SuppressWarnings("null")
     public String getParentSiteId() throws IOException {
+        final var key = getCacheKey();
+        if (key != null) {
+            final var cached = SITE_IDS.get(key);
+            if (cached != null && cached.expiresAt() > CLOCK.get().getAsLong()) {
+                return cached.siteId();
+            }
+        }
+
         SiteRequestBuilder req = null;
 
         switch (m_siteMode) {
@@ -140,9 +236,96 @@ public final class SharepointSiteResolver {
         }
 
         try {
-            return req.buildRequest().get().id;
+            final var siteId = req.buildRequest().get().id;
+            if (key != null) {
+                SITE_IDS.put(key, new CacheEntry(siteId, CLOCK.get().getAsLong() + CACHE_TTL_MILLIS));
+            }
+            return siteId;
         } catch (ClientException e) {
+            if (key != null && e instanceof GraphServiceException gse && gse.getResponseCode() == 404) {
+                SITE_IDS.remove(key);
+            }
             throw GraphApiUtil.unwrapIOE(e);
         }
     }
+
+    /**
+     * Performs a request to the site. If the request fails with a 404 response,
+     * either directly or as the cause of an {@link IOException}, the cached site ID
+     * may be outdated. It is then invalidated, the site is resolved again and the
+     * request is retried once.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param <E>
+     *            the type of the exception thrown by the request
+     * @param request
+     *            the request, which may be performed twice
+     * @return the result of the request
+     * @throws IOException
+     *             if the site could not be resolved or the request failed
+     * @throws E
+     *             if the request failed
+     */
+    public <T, E extends Exception> T requestSite(final SiteRequest<T, E> request) throws IOException, E {
+        try {
+            return request.apply(getTargetSiteId());
+        } catch (GraphServiceException e) {
+            if (!isNotFound(e)) {
+                throw e;
+            }
+        } catch (IOException e) {
+            if (!isNotFound(e.getCause())) {
+                throw e;
+            }
+        }
+        invalidate();
+        return request.apply(getTargetSiteId());
+    }
+
+    /**
+     * @param e
+     *            the exception, may be {@code null}
+     * @return whether the exception is a 404 response of the Graph API
+     */
+    public static boolean isNotFound(final Throwable e) {
+        return e instanceof GraphServiceException gse && gse.getResponseCode() == 404;
+    }
+
+    /**
+     * Removes the cached site ID of this resolver, e.g. because a request to the
+     * site returned a 404 response. The next call to {@link #getParentSiteId()}
+     * resolves the site again.
+     */
+    public void invalidate() {
+        final var key = getCacheKey();
+        if (key != null) {
+            SITE_IDS.remove(key);
+        }
+    }
+
+    /**
+     * Replaces the time source of the cache in milliseconds. Only used by tests.
+     */
+    static void setClock(final LongSupplier clock) {
+        CLOCK.set(clock);
+    }
+
+    /**
+     * Removes all cached site IDs. Only used by tests.
+     */
+    static void clearCache() {
+        SITE_IDS.clear();
+    }
+
+    private CacheKey getCacheKey() {
+        if (m_identity == null || m_siteMode == null) {
+            return null;
+        }
+        return switch (m_siteMode) {
+            case ROOT -> new CacheKey(m_identity, m_siteMode, "");
+            case WEB_URL -> new CacheKey(m_identity, m_siteMode, m_webUrl);
+            case GROUP -> new CacheKey(m_identity, m_siteMode, m_group);
+        };
+    }
 }
@@ -213,7 +213,39 @@ public final class SharepointSiteParameters implements NodeParameters {
     }
 
     public String getSiteId(final GraphServiceClient<Request> client) throws IOException {
-        return new SharepointSiteResolver(client, m_mode, getSubSite(), m_webUrl, getGroupSite()).getTargetSiteId();
+        return getSiteId(client, null);
+    }
+
+    /**
+     * Resolves the site ID, using the site ID cache of the
+     * {@link SharepointSiteResolver} for the given credential identity.
+     *
+     * @param client
+     *            the Graph client
+     * @param identity
+     *            the credential identity or {@code null} to not use the cache
+     * @return the site ID
+     * @throws IOException
+     *             if the site could not be resolved
+     */
+    public String getSiteId(final GraphServiceClient<Request> client, final String identity) throws IOException {
+        return createSiteResolver(client, identity).getTargetSiteId();
+    }
+
+    /**
+     * Creates a {@link SharepointSiteResolver} for these settings. Callers that
+     * receive a 404 response for the resolved site should invalidate it and
+     * resolve the site again.
+     *
+     * @param client
+     *            the Graph client
+     * @param identity
+     *            the credential identity or {@code null} to not use the cache
+     * @return the site resolver
+     */
+    public SharepointSiteResolver createSiteResolver(final GraphServiceClient<Request> client,
+            final String identity) {
+        return new SharepointSiteResolver(client, identity, m_mode, getSubSite(), m_webUrl, getGroupSite());
     }
 
     /**